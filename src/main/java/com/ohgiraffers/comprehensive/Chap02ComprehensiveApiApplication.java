@@ -2,9 +2,13 @@ package com.ohgiraffers.comprehensive;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableCaching
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class Chap02ComprehensiveApiApplication {
 
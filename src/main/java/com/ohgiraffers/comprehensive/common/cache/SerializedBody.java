@@ -0,0 +1,74 @@
+package com.ohgiraffers.comprehensive.common.cache;
+
+import com.ohgiraffers.comprehensive.common.exception.ServerInternalException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.FAIL_TO_SERIALIZE_RESPONSE;
+
+/* 미리 직렬화 해 둔 JSON 응답 본문 (UTF-8)
+ * 일정 크기 이상이면 gzip 압축본도 함께 만들어 두고, 클라이언트가 gzip 을 받을 수 있으면 그대로 내보낸다.
+ * gzip 과 원본은 byte 가 다른 표현이므로 strong ETag 도 달라야 한다. (getETag 로 인코딩별 ETag 를 만든다.)
+ * */
+public class SerializedBody {
+
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private final byte[] json;
+    private final byte[] gzip;
+
+    private SerializedBody(final byte[] json, final byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    public static SerializedBody of(final byte[] json) {
+        return new SerializedBody(json, json.length < GZIP_MIN_BYTES ? null : compress(json));
+    }
+
+    /* 캐시 크기 계산용 (byte) */
+    public int getWeight() {
+        return json.length + (gzip == null ? 0 : gzip.length);
+    }
+
+    /* 인코딩별 ETag : 본문 없이 Accept-Encoding 만으로 정하므로 304 확인과 200 응답의 ETag 가 항상 같다.
+     * (gzip 을 받는 클라이언트에게 작은 본문을 원본 그대로 보내도 ETag 는 "-gz" 이며 다른 표현과 겹치지 않는다.)
+     * */
+    public static String getETag(final String eTag, final String acceptEncoding) {
+        return acceptsGzip(acceptEncoding) ? eTag + "-gz" : eTag;
+    }
+
+    /* 본문을 복사하지 않고 ByteArrayHttpMessageConverter 로 바로 쓴다. */
+    public ResponseEntity<byte[]> toResponse(final String acceptEncoding) {
+
+        final boolean useGzip = gzip != null && acceptsGzip(acceptEncoding);
+
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        return useGzip
+                ? builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip)
+                : builder.body(json);
+    }
+
+    private static boolean acceptsGzip(final String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private static byte[] compress(final byte[] json) {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try(GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new ServerInternalException(FAIL_TO_SERIALIZE_RESPONSE);
+        }
+        return out.toByteArray();
+    }
+}
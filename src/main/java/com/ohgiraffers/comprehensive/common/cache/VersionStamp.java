@@ -0,0 +1,41 @@
+package com.ohgiraffers.comprehensive.common.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/* 조건부 GET(ETag / Last-Modified) 용 버전 정보
+ * version 이 같으면 응답 본문이 같다는 것을 보장하고, lastModified 는 epoch millis 이다.
+ * */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class VersionStamp {
+
+    private final long version;
+    private final long lastModified;
+
+    /* 재시작 후에도 이전 ETag 와 겹치지 않도록 시작 시각을 첫 버전으로 사용한다. */
+    public static VersionStamp initial() {
+        final long now = System.currentTimeMillis();
+        return new VersionStamp(now, now);
+    }
+
+    /* 행 단위 자원은 수정 시각 자체를 버전으로 사용한다. */
+    public static VersionStamp from(final LocalDateTime modifiedAt) {
+        final long modified = modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new VersionStamp(modified, modified);
+    }
+
+    public VersionStamp next() {
+        return new VersionStamp(version + 1, System.currentTimeMillis());
+    }
+
+    /* 자원 이름 + 버전 (따옴표는 WebRequest.checkNotModified 에서 붙여준다.) */
+    public String getETag(final String resource) {
+        return resource + "-" + version;
+    }
+}
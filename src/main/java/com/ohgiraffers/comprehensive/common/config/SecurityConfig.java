@@ -71,7 +71,8 @@ public class SecurityConfig {
                 .antMatchers(HttpMethod.GET, "/productimgs/**").permitAll()
                 .antMatchers(HttpMethod.GET, "/api/v1/products/**").permitAll() // 비회원 입장에서 다 조회 가능
                 .antMatchers("/member/signup").permitAll()
-                .antMatchers("/api/v1/products-management/**", "/api/vi/products/**").hasRole("ADMIN")
+                .antMatchers("/api/v1/products-management/**", "/api/vi/products/**", "/api/v1/orders-management/**",
+                        "/api/v1/reviews-management/**").hasRole("ADMIN")
                 .anyRequest().authenticated() // req header 요청 헤더에 토큰을 가지지 않고 요청하지 않으면 수행할 수 없다. 인증되어야 한다.
                 .and()
                 // 로그인 필터 설정 / 성공과 실패에 대한 핸들링
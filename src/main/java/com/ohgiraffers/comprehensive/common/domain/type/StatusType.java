@@ -3,5 +3,6 @@ package com.ohgiraffers.comprehensive.common.domain.type;
 public enum StatusType {
 
     USABLE,
+    HIDDEN,     // 관리자가 숨김 (복구 가능)
     DELETED
 }
\ No newline at end of file
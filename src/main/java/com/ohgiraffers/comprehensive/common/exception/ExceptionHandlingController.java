@@ -1,5 +1,6 @@
 package com.ohgiraffers.comprehensive.common.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -61,6 +62,18 @@ public class ExceptionHandlingController {
         return ResponseEntity.internalServerError().body(exceptionResponse);
     }
 
+    /* 503 : Service Unavailable => 일시적으로 요청을 받을 수 없음 (잠시 후 재시도) */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> serviceUnavailableException(ServiceUnavailableException e) {
+
+        final ExceptionResponse exceptionResponse
+                = ExceptionResponse.of(e.getCode(), e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(exceptionResponse);
+    }
+
     /* Validation Exception */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ExceptionResponse> methodValidException(MethodArgumentNotValidException e) {
@@ -0,0 +1,12 @@
+package com.ohgiraffers.comprehensive.common.exception;
+
+import com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode;
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends CustomException {
+
+    public ServiceUnavailableException(final ExceptionCode exceptionCode) {
+        super(exceptionCode);
+    }
+}
@@ -9,10 +9,14 @@ public enum ExceptionCode {
 
     FAIL_TO_UPLOAD_FILE(1001, "파일 저장에 실패하였습니다."),
     FAIL_TO_DELETE_FILE(1002, "파일 삭제에 실패하였습니다."),
+    FAIL_TO_READ_IMPORT(1003, "일괄 등록 데이터를 읽는 데 실패하였습니다."),
+    FAIL_TO_SERIALIZE_RESPONSE(1004, "응답 생성에 실패하였습니다."),
 
     NOT_FOUND_CATEGORY_CODE(2000, "카테고리 코드에 해당하는 카테고리가 존재하지 않습니다."),
 
     NOT_FOUND_PRODUCT_CODE(3000, "상품 코드에 해당하는 상품이 존재하지 않습니다."),
+    INVALID_IMPORT_HEADER(3001, "일괄 등록 CSV 헤더에 필요한 컬럼이 없습니다."),
+    INVALID_TOP_SELLERS_SIZE(3002, "판매 순위 조회 개수는 1 이상이어야 합니다."),
 
     FAIL_LOGIN(4000, "로그인에 실패하였습니다."),
     UNAUTHORIZED(4001, "인증 되지 않은 요청입니다."),
@@ -22,9 +26,20 @@ public enum ExceptionCode {
 
     NOT_ENOUGH_STOCK(5000, "재고 부족으로 주문 불가합니다."),
     NOT_FOUND_VALID_ORDER(5001, "유효한 주문 건이 없습니다."),
+    ORDER_QUEUE_FULL(5002, "주문이 많아 접수할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    NOT_FOUND_ORDER_TICKET(5003, "주문 접수 번호에 해당하는 주문이 없습니다."),
+    FAIL_TO_SAVE_ORDER(5004, "주문 저장에 실패하였습니다."),
+    INVALID_IDEMPOTENCY_KEY(5005, "Idempotency-Key 는 1 ~ 64자의 영문, 숫자, '-', '_' 만 사용할 수 있습니다."),
+    INVALID_EXPORT_PERIOD(5006, "내보내기 기간이 올바르지 않습니다. (시작일 <= 종료일, 최대 366일)"),
+    IDEMPOTENCY_KEY_REUSED(5007, "이미 다른 주문 요청에 사용 된 Idempotency-Key 입니다."),
 
     NOT_FOUND_REVIEW_CODE(6000, "리뷰 코드에 해당하는 리뷰가 존재하지 않습니다."),
-    ALREADY_EXIST_REVIEW(6001, "이미 리뷰가 작성되어 작성할 수 없습니다.");
+    ALREADY_EXIST_REVIEW(6001, "이미 리뷰가 작성되어 작성할 수 없습니다."),
+    INVALID_REVIEW_SUMMARY_REQUEST(6002, "리뷰 요약은 한 번에 1 ~ 100개 상품까지 조회할 수 있습니다."),
+    INVALID_REVIEW_MODERATION(6003, "회원 코드 또는 상품 코드 중 하나 이상을 지정해야 합니다."),
+    INVALID_REVIEW_MODERATION_STATUS(6004, "리뷰는 숨김(HIDDEN) 또는 복구(USABLE) 로만 변경할 수 있습니다."),
+
+    INVALID_PAGING_CURSOR(9001, "유효하지 않은 페이징 커서입니다.");
 
     private final int code;
     private final String message;
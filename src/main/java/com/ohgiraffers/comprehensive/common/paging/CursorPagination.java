@@ -0,0 +1,48 @@
+package com.ohgiraffers.comprehensive.common.paging;
+
+import com.ohgiraffers.comprehensive.common.exception.BadRequestException;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.INVALID_PAGING_CURSOR;
+
+/* 커서(keyset) 기반 페이징
+ * OFFSET + COUNT(*) 대신 마지막으로 받은 코드보다 작은 행부터 내림차순 인덱스를 탐색한다.
+ * 클라이언트에는 코드 값을 그대로 노출하지 않고 불투명한 문자열로 전달한다.
+ * */
+public class CursorPagination {
+
+    /* 첫 페이지 요청(커서 없음)이면 null 반환 */
+    public static Long decode(String cursor) {
+
+        if(cursor == null || cursor.isBlank())
+            return null;
+
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new BadRequestException(INVALID_PAGING_CURSOR);
+        }
+    }
+
+    public static String encode(Long key) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /* 다음 페이지가 없으면 null */
+    public static <T> String getNextCursor(Slice<T> slice, Function<T, Long> keyExtractor) {
+
+        if(!slice.hasNext() || !slice.hasContent())
+            return null;
+
+        List<T> content = slice.getContent();
+
+        return encode(keyExtractor.apply(content.get(content.size() - 1)));
+    }
+
+}
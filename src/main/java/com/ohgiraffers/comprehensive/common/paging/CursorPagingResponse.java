@@ -0,0 +1,16 @@
+package com.ohgiraffers.comprehensive.common.paging;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CursorPagingResponse {
+
+    private final Object data;
+    private final String nextCursor;
+
+    public static CursorPagingResponse of(Object data, String nextCursor) {
+        return new CursorPagingResponse(data, nextCursor);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ohgiraffers.comprehensive.common.util;
+
+import java.util.Locale;
+
+/* 한글 음절 분해
+ * 음절 코드 = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성
+ * 겹모음(ㅘ), 겹받침(ㄺ)은 입력 순서대로 풀어서(ㅗㅏ, ㄹㄱ) 조합 중인 글자('달' -> '닭')도 앞부분이 일치하도록 한다.
+ * */
+public class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSUNG = "ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNGSUNG_JAMO = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG_JAMO = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /* 자모 단위로 분해 : "김치" -> "ㄱㅣㅁㅊㅣ", 공백 제거, 영문 소문자 */
+    public static String decompose(String text) {
+
+        StringBuilder builder = new StringBuilder();
+        for(char ch : normalize(text).toCharArray()) {
+            if(isSyllable(ch)) {
+                int code = ch - SYLLABLE_BEGIN;
+                builder.append(CHOSUNG.charAt(code / (21 * 28)))
+                        .append(JUNGSUNG_JAMO[code % (21 * 28) / 28])
+                        .append(JONGSUNG_JAMO[code % 28]);
+            } else if(JUNGSUNG.indexOf(ch) >= 0) {
+                builder.append(JUNGSUNG_JAMO[JUNGSUNG.indexOf(ch)]);
+            } else if(CHOSUNG.indexOf(ch) < 0 && JONGSUNG.indexOf(ch) >= 0) {
+                builder.append(JONGSUNG_JAMO[JONGSUNG.indexOf(ch) + 1]); // 겹받침만 입력한 경우
+            } else {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    /* 초성만 추출 : "김치 찌개" -> "ㄱㅊㅉㄱ" */
+    public static String chosung(String text) {
+
+        StringBuilder builder = new StringBuilder();
+        for(char ch : normalize(text).toCharArray()) {
+            builder.append(isSyllable(ch) ? CHOSUNG.charAt((ch - SYLLABLE_BEGIN) / (21 * 28)) : ch);
+        }
+        return builder.toString();
+    }
+
+    /* 초성으로만 이루어진 검색어인지 : "ㄱㅊ" */
+    public static boolean isChosungOnly(String text) {
+
+        String normalized = normalize(text);
+        if(normalized.isEmpty()) return false;
+
+        for(char ch : normalized.toCharArray()) {
+            if(CHOSUNG.indexOf(ch) < 0) return false;
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BEGIN && ch <= SYLLABLE_END;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+}
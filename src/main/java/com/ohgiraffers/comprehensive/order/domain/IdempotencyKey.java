@@ -0,0 +1,61 @@
+package com.ohgiraffers.comprehensive.order.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/* 처리 완료 된 주문 요청의 Idempotency-Key (회원별)
+ * 주문과 같은 트랜잭션에서 저장되므로 키가 있으면 주문도 저장된 것이다. PK 중복으로 동시 요청 중 하나만 저장된다.
+ * requestHash 는 요청 본문의 SHA-256 으로, 같은 키로 다른 주문을 요청하면 거절하는 데 사용한다.
+ * */
+@Entity
+@Table(name = "tbl_idempotency_key", indexes = {
+        @Index(name = "idx_idempotency_key_created_at", columnList = "createdAt")
+})
+@NoArgsConstructor(access = PROTECTED)
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+public class IdempotencyKey implements Persistable<String> {
+
+    @Id
+    @Column(length = 100)
+    private String idempotencyKey; // memberCode:Idempotency-Key
+
+    @Column(nullable = false)
+    private Long memberCode;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private IdempotencyKey(String idempotencyKey, Long memberCode, String requestHash) {
+        this.idempotencyKey = idempotencyKey;
+        this.memberCode = memberCode;
+        this.requestHash = requestHash;
+    }
+
+    public static IdempotencyKey of(String idempotencyKey, Long memberCode, String requestHash) {
+        return new IdempotencyKey(idempotencyKey, memberCode, requestHash);
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    /* 항상 insert (merge 로 인한 select 후 update 방지) */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
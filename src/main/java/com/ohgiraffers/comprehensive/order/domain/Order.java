@@ -2,7 +2,6 @@ package com.ohgiraffers.comprehensive.order.domain;
 
 import com.ohgiraffers.comprehensive.product.domain.Product;
 import lombok.AccessLevel;
-import lombok.Cleanup;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
@@ -16,7 +15,14 @@ import static javax.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
-@Table(name="tbl_order")
+@Table(name="tbl_order", indexes = {
+        /* 회원 주문 내역 (memberCode 조건 + orderCode 정렬), 목록에 필요한 주문 컬럼까지 포함 (covering index) */
+        @Index(name = "idx_order_member_code", columnList = "memberCode, orderCode, productCode, orderAmount, orderDate"),
+        /* 주문 내보내기 (orderDate 범위 + orderDate, orderCode 순서) */
+        @Index(name = "idx_order_date", columnList = "orderDate"),
+        /* 리뷰 작성 전 구매 확인 (productCode, memberCode) */
+        @Index(name = "idx_order_product_member", columnList = "productCode, memberCode")
+})
 @NoArgsConstructor(access = PROTECTED)
 @Getter
 @EntityListeners(AuditingEntityListener.class) // 발생 시간 (수정은 x)
@@ -26,7 +32,7 @@ public class Order {
     @GeneratedValue(strategy = IDENTITY)
     private Long orderCode;
 
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(fetch = FetchType.LAZY) // 주문 저장 시 상품을 조회하거나 함께 저장하지 않는다.
     @JoinColumn(name = "productCode")
     private Product product;
 
@@ -0,0 +1,37 @@
+package com.ohgiraffers.comprehensive.order.domain;
+
+import com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode;
+import com.ohgiraffers.comprehensive.order.domain.type.OrderTicketStatusType;
+import lombok.Getter;
+
+import java.util.UUID;
+
+import static com.ohgiraffers.comprehensive.order.domain.type.OrderTicketStatusType.*;
+
+/* 비동기 주문 접수 번호 : 처리 결과는 주문 저장 스레드에서 기록하고 요청 스레드에서 조회한다. */
+@Getter
+public class OrderTicket {
+
+    private final String ticketId;
+    private final Long memberCode;
+    private volatile OrderTicketStatusType status = QUEUED;
+    private volatile ExceptionCode rejectReason;
+
+    private OrderTicket(final String ticketId, final Long memberCode) {
+        this.ticketId = ticketId;
+        this.memberCode = memberCode;
+    }
+
+    public static OrderTicket issue(final Long memberCode) {
+        return new OrderTicket(UUID.randomUUID().toString().replace("-", ""), memberCode);
+    }
+
+    public void accept() {
+        this.status = ACCEPTED;
+    }
+
+    public void reject(final ExceptionCode rejectReason) {
+        this.rejectReason = rejectReason;
+        this.status = REJECTED;
+    }
+}
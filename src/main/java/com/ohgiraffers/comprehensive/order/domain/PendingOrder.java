@@ -0,0 +1,53 @@
+package com.ohgiraffers.comprehensive.order.domain;
+
+import com.ohgiraffers.comprehensive.order.dto.reqeust.CartOrderCreateRequest;
+import com.ohgiraffers.comprehensive.order.dto.reqeust.OrderCreateRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/* JDBC batch 로 저장할 주문 한 행 (장부 예약 주문, 비동기 접수 주문, 장바구니 일괄 저장) */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class PendingOrder {
+
+    private final Long productCode;
+    private final Long memberCode;
+    private final String orderPhone;
+    private final String orderEmail;
+    private final String orderReceiver;
+    private final String orderAddress;
+    private final Long orderAmount;
+    private final LocalDateTime orderDate;  // 저장 시각이 아니라 요청(예약) 시각
+
+    public static PendingOrder of(final OrderCreateRequest orderRequest, final Long memberCode) {
+        return new PendingOrder(
+                orderRequest.getProductCode(),
+                memberCode,
+                orderRequest.getOrderPhone(),
+                orderRequest.getOrderEmail(),
+                orderRequest.getOrderReceiver(),
+                orderRequest.getOrderAddress(),
+                orderRequest.getOrderAmount(),
+                LocalDateTime.now()
+        );
+    }
+
+    /* 장바구니 주문 : 배송 정보는 공통, 상품 / 수량은 행마다 */
+    public static PendingOrder of(
+            final CartOrderCreateRequest cartRequest, final Long productCode, final Long orderAmount, final Long memberCode) {
+        return new PendingOrder(
+                productCode,
+                memberCode,
+                cartRequest.getOrderPhone(),
+                cartRequest.getOrderEmail(),
+                cartRequest.getOrderReceiver(),
+                cartRequest.getOrderAddress(),
+                orderAmount,
+                LocalDateTime.now()
+        );
+    }
+}
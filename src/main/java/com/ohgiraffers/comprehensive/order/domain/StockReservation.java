@@ -0,0 +1,24 @@
+package com.ohgiraffers.comprehensive.order.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/* 재고 장부에서 예약 되어 주문은 저장 되었지만 아직 상품 재고에 반영 되지 않은 차감량 (tbl_stock_reservation) */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class StockReservation {
+
+    private final Long reservationCode;
+    private final Long productCode;
+    private final Long amount;
+    private final LocalDateTime reservedAt;
+
+    public static StockReservation of(
+            final Long reservationCode, final Long productCode, final Long amount, final LocalDateTime reservedAt) {
+        return new StockReservation(reservationCode, productCode, amount, reservedAt);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ohgiraffers.comprehensive.order.domain.projection;
+
+import java.time.LocalDateTime;
+
+/* 주문 내역에 필요한 컬럼만 조회 (Product 는 이름, 가격만) */
+public interface OrderSummary {
+
+    Long getOrderCode();
+
+    Long getProductCode();
+
+    String getProductName();
+
+    Long getProductPrice();
+
+    Long getOrderAmount();
+
+    LocalDateTime getOrderDate();
+}
@@ -0,0 +1,46 @@
+package com.ohgiraffers.comprehensive.order.domain.repository;
+
+import com.ohgiraffers.comprehensive.order.dto.response.OrderExportResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/* 주문 내보내기 (forward-only 스트리밍 조회)
+ * MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 받아오고(streaming),
+ * 그 외에는 결과 전체를 메모리에 올린다. 행 수와 관계없이 메모리 사용량이 일정하다.
+ * 스트리밍 중에는 같은 커넥션으로 다른 구문을 실행할 수 없으므로 트랜잭션 밖에서 호출한다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class OrderExportRepository {
+
+    private static final String SELECT_ORDERS =
+            "SELECT o.order_code, o.order_date, o.member_code, o.product_code, p.product_name, p.product_price, " +
+            "o.order_amount, o.order_receiver, o.order_phone, o.order_email, o.order_address " +
+            "FROM tbl_order o JOIN tbl_product p ON p.product_code = o.product_code " +
+            "WHERE o.order_date >= ? AND o.order_date < ? " +
+            "ORDER BY o.order_date, o.order_code";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* [from, to) 기간의 주문을 주문 시각 순서로 한 행씩 전달 */
+    public void streamOrders(final LocalDateTime from, final LocalDateTime to, final Consumer<OrderExportResponse> consumer) {
+
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(
+                    SELECT_ORDERS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setTimestamp(1, Timestamp.valueOf(from));
+            ps.setTimestamp(2, Timestamp.valueOf(to));
+            return ps;
+        }, rs -> {
+            consumer.accept(OrderExportResponse.from(rs));
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package com.ohgiraffers.comprehensive.order.domain.repository;
+
+import com.ohgiraffers.comprehensive.order.domain.PendingOrder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/* 주문 대량 저장 (JDBC batch)
+ * Order 는 IDENTITY 전략이라 Hibernate 가 insert 를 batch 로 묶지 않는다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+
+    private static final String INSERT_ORDER =
+            "INSERT INTO tbl_order (product_code, member_code, order_phone, order_email, order_receiver, " +
+            "order_address, order_amount, order_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DECREASE_STOCK =
+            "UPDATE tbl_product SET product_stock = product_stock - ?, modified_at = ? WHERE product_code = ?";
+
+    private static final String SELECT_PURCHASES = "SELECT member_code, product_code FROM tbl_order";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* 전체 주문의 (memberCode, productCode) 를 한 행씩 전달 : idx_order_product_member 만 읽는 스트리밍 조회 */
+    public void streamPurchases(final BiConsumer<Long, Long> consumer) {
+
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(
+                    SELECT_PURCHASES, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, rs -> {
+            consumer.accept(rs.getLong(1), rs.getLong(2));
+        });
+    }
+
+    /* 여러 상품 재고를 잠그고 조회 (productCode 오름차순으로 잠금) : productCode -> stock, 없는 상품은 포함되지 않는다. */
+    public Map<Long, Long> findStocksForUpdate(final SortedSet<Long> productCodes) {
+
+        final String sql = "SELECT product_code, product_stock FROM tbl_product WHERE product_code IN (" +
+                productCodes.stream().map(productCode -> "?").collect(Collectors.joining(", ")) +
+                ") ORDER BY product_code FOR UPDATE";
+
+        final Map<Long, Long> stocks = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> { stocks.put(rs.getLong(1), rs.getLong(2)); }, productCodes.toArray());
+        return stocks;
+    }
+
+    /* 여러 상품 재고를 구문 하나로 차감 : 모든 상품의 재고가 충분할 때만 의미가 있으며, 갱신 된 행 수로 확인한다.
+     * PK IN (...) 범위를 오름차순으로 읽으며 행을 잠그므로 동시 장바구니 주문 사이에 잠금 순서가 같다.
+     * */
+    public boolean decreaseStocksIfAvailable(final SortedMap<Long, Long> amounts) {
+
+        final String amountCase = amounts.keySet().stream()
+                .map(productCode -> "WHEN ? THEN ?")
+                .collect(Collectors.joining(" ", "CASE product_code ", " END"));
+        final String productCodes = amounts.keySet().stream()
+                .map(productCode -> "?")
+                .collect(Collectors.joining(", "));
+
+        final String sql = "UPDATE tbl_product SET product_stock = product_stock - " + amountCase + ", modified_at = ? " +
+                "WHERE product_code IN (" + productCodes + ") AND product_stock >= " + amountCase;
+
+        final List<Object> params = new ArrayList<>();
+        amounts.forEach((productCode, amount) -> { params.add(productCode); params.add(amount); });
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(amounts.keySet());
+        amounts.forEach((productCode, amount) -> { params.add(productCode); params.add(amount); });
+
+        return jdbcTemplate.update(sql, params.toArray()) == amounts.size();
+    }
+
+    public void batchInsert(final List<PendingOrder> orders) {
+
+        jdbcTemplate.batchUpdate(INSERT_ORDER, orders, orders.size(), (ps, order) -> {
+            ps.setLong(1, order.getProductCode());
+            ps.setLong(2, order.getMemberCode());
+            ps.setString(3, order.getOrderPhone());
+            ps.setString(4, order.getOrderEmail());
+            ps.setString(5, order.getOrderReceiver());
+            ps.setString(6, order.getOrderAddress());
+            ps.setLong(7, order.getOrderAmount());
+            ps.setTimestamp(8, Timestamp.valueOf(order.getOrderDate()));
+        });
+    }
+
+    /* 상품별 차감량(productCode -> amount)을 productCode 순서로 반영한다. (행 잠금 순서를 고정해서 교착 상태 방지) */
+    public void decreaseStocks(final SortedMap<Long, Long> amounts) {
+
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        final List<Map.Entry<Long, Long>> entries = new ArrayList<>(amounts.entrySet());
+
+        jdbcTemplate.batchUpdate(DECREASE_STOCK, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, entry.getKey());
+        });
+    }
+}
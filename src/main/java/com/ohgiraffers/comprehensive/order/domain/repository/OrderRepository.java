@@ -1,15 +1,30 @@
 package com.ohgiraffers.comprehensive.order.domain.repository;
 
 import com.ohgiraffers.comprehensive.order.domain.Order;
+import com.ohgiraffers.comprehensive.order.domain.projection.OrderSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    @EntityGraph(attributePaths = {"product"})
-    Page<Order> findByMemberCode(Pageable pageable, Long memberCode);
+    /* 회원 주문 내역 : idx_order_member_code 로 회원의 주문을 orderCode 순서대로 읽고 상품은 PK 로 이름, 가격만 조회
+     * count 는 상품 join 없이 인덱스만 읽는다.
+     * */
+    @Query(value = "SELECT o.orderCode AS orderCode, p.productCode AS productCode, p.productName AS productName, " +
+            "p.productPrice AS productPrice, o.orderAmount AS orderAmount, o.orderDate AS orderDate " +
+            "FROM Order o JOIN o.product p WHERE o.memberCode = :memberCode",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.memberCode = :memberCode")
+    Page<OrderSummary> findByMemberCode(Pageable pageable, @Param("memberCode") Long memberCode);
+
+    @Query("SELECT o.orderCode AS orderCode, p.productCode AS productCode, p.productName AS productName, " +
+            "p.productPrice AS productPrice, o.orderAmount AS orderAmount, o.orderDate AS orderDate " +
+            "FROM Order o JOIN o.product p WHERE o.memberCode = :memberCode AND o.orderCode < :orderCode")
+    Slice<OrderSummary> findByMemberCodeAndOrderCodeLessThan(
+            Pageable pageable, @Param("memberCode") Long memberCode, @Param("orderCode") Long orderCode);
 
     boolean existsByProductProductCodeAndMemberCode(Long productCode, Long memberCode);
 }
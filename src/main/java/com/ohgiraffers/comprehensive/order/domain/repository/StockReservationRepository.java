@@ -0,0 +1,53 @@
+package com.ohgiraffers.comprehensive.order.domain.repository;
+
+import com.ohgiraffers.comprehensive.order.domain.PendingOrder;
+import com.ohgiraffers.comprehensive.order.domain.StockReservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/* 재고 차감 대기 기록 (tbl_stock_reservation)
+ * 장부 예약 주문은 주문 행과 이 기록을 한 트랜잭션으로 저장하고, 상품 재고에는 StockReservationWriter 가 모아서 반영한다.
+ * 서버가 비정상 종료 되어도 주문과 차감할 재고가 DB 에 남는다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class StockReservationRepository {
+
+    private static final String INSERT_RESERVATION =
+            "INSERT INTO tbl_stock_reservation (product_code, amount, reserved_at) VALUES (?, ?, ?)";
+
+    /* 여러 서버가 동시에 반영해도 같은 기록을 두 번 반영하지 않도록 잠긴 행은 건너뛴다. */
+    private static final String SELECT_RESERVATIONS =
+            "SELECT reservation_code, product_code, amount, reserved_at FROM tbl_stock_reservation " +
+            "ORDER BY reservation_code LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(final List<PendingOrder> orders) {
+
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION, orders, orders.size(), (ps, order) -> {
+            ps.setLong(1, order.getProductCode());
+            ps.setLong(2, order.getOrderAmount());
+            ps.setTimestamp(3, Timestamp.valueOf(order.getOrderDate()));
+        });
+    }
+
+    public List<StockReservation> findForUpdate(final int limit) {
+
+        return jdbcTemplate.query(SELECT_RESERVATIONS, (rs, rowNum) -> StockReservation.of(
+                rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getTimestamp(4).toLocalDateTime()), limit);
+    }
+
+    public void delete(final List<StockReservation> reservations) {
+
+        final String sql = "DELETE FROM tbl_stock_reservation WHERE reservation_code IN (" +
+                reservations.stream().map(reservation -> "?").collect(Collectors.joining(", ")) + ")";
+
+        jdbcTemplate.update(sql, reservations.stream().map(StockReservation::getReservationCode).toArray());
+    }
+}
@@ -0,0 +1,17 @@
+package com.ohgiraffers.comprehensive.order.domain.type;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum OrderTicketStatusType {
+
+    QUEUED("queued"),       // 접수 대기열에 있음
+    ACCEPTED("accepted"),   // 주문 저장 완료
+    REJECTED("rejected");   // 재고 부족 등으로 주문 불가
+
+    private final String value;
+
+    OrderTicketStatusType(String value) { this.value = value; }
+
+    @JsonValue
+    public String getValue() { return value; }
+}
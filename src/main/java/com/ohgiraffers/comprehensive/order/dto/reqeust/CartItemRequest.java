@@ -0,0 +1,19 @@
+package com.ohgiraffers.comprehensive.order.dto.reqeust;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@RequiredArgsConstructor
+@Getter
+public class CartItemRequest {
+
+    @NotNull
+    @Min(value = 1)
+    private final Long productCode;
+    @NotNull
+    @Min(value = 1)
+    private final Long orderAmount;
+}
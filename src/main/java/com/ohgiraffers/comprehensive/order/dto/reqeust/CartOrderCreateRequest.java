@@ -0,0 +1,32 @@
+package com.ohgiraffers.comprehensive.order.dto.reqeust;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Getter
+public class CartOrderCreateRequest {
+
+    @NotBlank
+    @Size(max = 255) // tbl_order 컬럼 길이
+    private final String orderPhone;
+    @NotBlank
+    @Size(max = 255)
+    private final String orderEmail;
+    @NotBlank
+    @Size(max = 255)
+    private final String orderReceiver;
+    @NotBlank
+    @Size(max = 255)
+    private final String orderAddress;
+    @NotEmpty
+    @Size(max = 100)
+    private final List<@Valid CartItemRequest> items;
+    // 배송 정보는 주문 한 건에 한 번만 받고, 상품별로 주문 행이 하나씩 저장된다.
+}
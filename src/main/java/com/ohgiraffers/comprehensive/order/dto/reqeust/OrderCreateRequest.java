@@ -5,21 +5,29 @@ import lombok.RequiredArgsConstructor;
 
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 
 @RequiredArgsConstructor
 @Getter
 public class OrderCreateRequest {
 
+    @NotNull
     @Min(value = 1)
     private final Long productCode;
     @NotBlank
+    @Size(max = 255) // tbl_order 컬럼 길이
     private final String orderPhone;
     @NotBlank
+    @Size(max = 255)
     private final String orderEmail;
     @NotBlank
+    @Size(max = 255)
     private final String orderReceiver;
     @NotBlank
+    @Size(max = 255)
     private final String orderAddress;
+    @NotNull
     @Min(value = 1)
     private final Long orderAmount;
     // insert 할 때 반드시 클라이언트로부터 받아 와야 할 정보를 잘 생각 해서 선별 해야 한다.
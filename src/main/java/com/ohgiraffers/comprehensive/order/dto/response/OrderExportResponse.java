@@ -0,0 +1,63 @@
+package com.ohgiraffers.comprehensive.order.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/* 주문 내보내기 한 행 (OrderExportRepository 조회 컬럼 순서) */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class OrderExportResponse {
+
+    public static final String CSV_HEADER = "orderCode,orderDate,memberCode,productCode,productName,productPrice," +
+            "orderAmount,orderReceiver,orderPhone,orderEmail,orderAddress";
+
+    private final Long orderCode;
+    private final LocalDateTime orderDate;
+    private final Long memberCode;
+    private final Long productCode;
+    private final String productName;
+    private final Long productPrice;
+    private final Long orderAmount;
+    private final String orderReceiver;
+    private final String orderPhone;
+    private final String orderEmail;
+    private final String orderAddress;
+
+    public static OrderExportResponse from(final ResultSet rs) throws SQLException {
+        return new OrderExportResponse(
+                rs.getLong(1),
+                rs.getTimestamp(2).toLocalDateTime(),
+                rs.getLong(3),
+                rs.getLong(4),
+                rs.getString(5),
+                rs.getLong(6),
+                rs.getLong(7),
+                rs.getString(8),
+                rs.getString(9),
+                rs.getString(10),
+                rs.getString(11)
+        );
+    }
+
+    public String toCsv() {
+        return orderCode + "," + orderDate + "," + memberCode + "," + productCode + "," + csv(productName) + "," +
+                productPrice + "," + orderAmount + "," + csv(orderReceiver) + "," + csv(orderPhone) + "," +
+                csv(orderEmail) + "," + csv(orderAddress);
+    }
+
+    /* RFC 4180 : 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 "" 로 */
+    private static String csv(final String value) {
+
+        if(value == null) return "";
+        if(value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
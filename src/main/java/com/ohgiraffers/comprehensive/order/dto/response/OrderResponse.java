@@ -1,7 +1,7 @@
 package com.ohgiraffers.comprehensive.order.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.ohgiraffers.comprehensive.order.domain.Order;
+import com.ohgiraffers.comprehensive.order.domain.projection.OrderSummary;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -19,13 +19,13 @@ public class OrderResponse {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private final LocalDateTime orderDate;
 
-    public static OrderResponse from(Order order) {
+    public static OrderResponse from(OrderSummary order) {
 
         return new OrderResponse(
                 order.getOrderCode(),
-                order.getProduct().getProductCode(),
-                order.getProduct().getProductName(),
-                order.getProduct().getProductPrice(),
+                order.getProductCode(),
+                order.getProductName(),
+                order.getProductPrice(),
                 order.getOrderAmount(),
                 order.getOrderDate()
         );
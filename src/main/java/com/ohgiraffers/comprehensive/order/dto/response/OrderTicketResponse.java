@@ -0,0 +1,27 @@
+package com.ohgiraffers.comprehensive.order.dto.response;
+
+import com.ohgiraffers.comprehensive.order.domain.OrderTicket;
+import com.ohgiraffers.comprehensive.order.domain.type.OrderTicketStatusType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class OrderTicketResponse {
+
+    private final String ticketId;
+    private final OrderTicketStatusType status;
+    private final Integer code;      // 거절 사유 (거절 된 경우만)
+    private final String message;
+
+    public static OrderTicketResponse from(final OrderTicket ticket) {
+        return new OrderTicketResponse(
+                ticket.getTicketId(),
+                ticket.getStatus(),
+                ticket.getRejectReason() == null ? null : ticket.getRejectReason().getCode(),
+                ticket.getRejectReason() == null ? null : ticket.getRejectReason().getMessage()
+        );
+    }
+}
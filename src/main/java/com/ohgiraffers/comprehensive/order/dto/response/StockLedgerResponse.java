@@ -0,0 +1,18 @@
+package com.ohgiraffers.comprehensive.order.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class StockLedgerResponse {
+
+    private final Long productCode;
+    private final long availableStock;
+
+    public static StockLedgerResponse of(final Long productCode, final long availableStock) {
+        return new StockLedgerResponse(productCode, availableStock);
+    }
+}
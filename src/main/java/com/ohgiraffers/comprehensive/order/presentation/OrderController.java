@@ -1,20 +1,37 @@
 package com.ohgiraffers.comprehensive.order.presentation;
 
+import com.ohgiraffers.comprehensive.common.paging.CursorPagination;
+import com.ohgiraffers.comprehensive.common.paging.CursorPagingResponse;
 import com.ohgiraffers.comprehensive.common.paging.Pagenation;
 import com.ohgiraffers.comprehensive.common.paging.PagingButtonInfo;
 import com.ohgiraffers.comprehensive.common.paging.PagingResponse;
 import com.ohgiraffers.comprehensive.jwt.CustomUser;
+import com.ohgiraffers.comprehensive.order.domain.type.OrderExportFormat;
+import com.ohgiraffers.comprehensive.order.dto.reqeust.CartOrderCreateRequest;
 import com.ohgiraffers.comprehensive.order.dto.reqeust.OrderCreateRequest;
 import com.ohgiraffers.comprehensive.order.dto.response.OrderResponse;
+import com.ohgiraffers.comprehensive.order.dto.response.OrderTicketResponse;
+import com.ohgiraffers.comprehensive.order.dto.response.StockLedgerResponse;
+import com.ohgiraffers.comprehensive.order.service.OrderExportService;
 import com.ohgiraffers.comprehensive.order.service.OrderService;
+import com.ohgiraffers.comprehensive.order.service.StockLedgerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -22,20 +39,56 @@ import javax.validation.Valid;
 public class OrderController {
 
     private final OrderService orderService;
+    private final StockLedgerService stockLedgerService;
+    private final OrderExportService orderExportService;
 
     /* 1. 주문 등록 */
     @PostMapping("/order")
     public ResponseEntity<Void> save(@RequestBody @Valid OrderCreateRequest orderRequest,
-                                     @AuthenticationPrincipal final CustomUser customUser) {
+                                     @AuthenticationPrincipal final CustomUser customUser,
+                                     @RequestHeader(value = "Idempotency-Key", required = false) final String idempotencyKey) {
         // JSON 형태로 넘어온 정보를 확인할 수 있고 Valid 가능하다.
         // 두 가지 값을 가지고 insert 할 때 정보를 넘긴다.
+        // 재시도 요청은 같은 Idempotency-Key 를 보내면 주문이 한 번만 저장된다.
 
-        orderService.save(orderRequest, customUser);
+        orderService.save(orderRequest, customUser, idempotencyKey);
 
         return ResponseEntity.status(HttpStatus.CREATED).build();
         // 201번 코드 전달
     }
 
+    /* 1-1. 장바구니 주문 등록 : 여러 상품을 한 번에 주문 */
+    @PostMapping("/order/cart")
+    public ResponseEntity<Void> saveCart(@RequestBody @Valid CartOrderCreateRequest cartRequest,
+                                         @AuthenticationPrincipal final CustomUser customUser) {
+
+        orderService.saveCart(cartRequest, customUser);
+
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    /* 1-2. 비동기 주문 등록 : 202 Accepted + 접수 번호 (대기열이 가득 차면 503) */
+    @PostMapping("/order/async")
+    public ResponseEntity<OrderTicketResponse> saveAsync(@RequestBody @Valid OrderCreateRequest orderRequest,
+                                                         @AuthenticationPrincipal final CustomUser customUser) {
+
+        final OrderTicketResponse ticket = orderService.saveAsync(orderRequest, customUser);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/order/tickets/" + ticket.getTicketId()))
+                .body(ticket);
+    }
+
+    /* 1-3. 비동기 주문 처리 결과 조회 */
+    @GetMapping("/order/tickets/{ticketId}")
+    public ResponseEntity<OrderTicketResponse> getOrderTicket(@PathVariable final String ticketId,
+                                                              @AuthenticationPrincipal final CustomUser customUser) {
+
+        final OrderTicketResponse ticket = orderService.getOrderTicket(ticketId, customUser);
+
+        return ResponseEntity.ok(ticket);
+    }
+
     /* 2. 회원의 주문 목록 조회 */
     @GetMapping("/order")
     public ResponseEntity<PagingResponse> getOrders(
@@ -51,4 +104,63 @@ public class OrderController {
 
     }
 
+    /* 2-1. 회원의 주문 목록 조회 - 커서 기반 */
+    @GetMapping(value = "/order", params = "after")
+    public ResponseEntity<CursorPagingResponse> getOrdersAfter(
+            @RequestParam(required = false) final String after,
+            @AuthenticationPrincipal CustomUser customUser
+    ) {
+        final Slice<OrderResponse> orders = orderService.getOrdersAfter(CursorPagination.decode(after), customUser);
+        final String nextCursor = CursorPagination.getNextCursor(orders, OrderResponse::getOrderCode);
+        final CursorPagingResponse cursorPagingResponse = CursorPagingResponse.of(orders.getContent(), nextCursor);
+
+        return ResponseEntity.ok(cursorPagingResponse);
+    }
+
+    /* 3. 재고 장부 상품 목록 (관리자) */
+    @GetMapping("/orders-management/stock-ledger")
+    public ResponseEntity<List<StockLedgerResponse>> getStockLedger() {
+
+        final List<StockLedgerResponse> managedProducts = stockLedgerService.getManagedProducts();
+
+        return ResponseEntity.ok(managedProducts);
+    }
+
+    /* 4. 재고 장부 등록 (관리자) : 해당 상품 주문은 메모리에서 재고를 예약한다. */
+    @PutMapping("/orders-management/stock-ledger/{productCode}")
+    public ResponseEntity<Void> manageStock(@PathVariable final Long productCode) {
+
+        stockLedgerService.manage(productCode);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /* 5. 재고 장부 해제 (관리자) */
+    @DeleteMapping("/orders-management/stock-ledger/{productCode}")
+    public ResponseEntity<Void> releaseStock(@PathVariable final Long productCode) {
+
+        stockLedgerService.release(productCode);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /* 6. 주문 내보내기 (관리자) : 기간 내 전체 주문을 CSV / NDJSON 으로 스트리밍 */
+    @GetMapping("/orders-management/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to,
+            @RequestParam(defaultValue = "CSV") final OrderExportFormat format) {
+        // ?from=2024-01-01&to=2024-01-31&format=NDJSON (종료일 포함)
+
+        orderExportService.validatePeriod(from, to);
+
+        final StreamingResponseBody body = outputStream -> orderExportService.export(from, to, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders_" + from + "_" + to + "." + format.getExtension())
+                        .build().toString())
+                .body(body);
+    }
 }
@@ -0,0 +1,74 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.comprehensive.common.exception.BadRequestException;
+import com.ohgiraffers.comprehensive.order.domain.repository.OrderExportRepository;
+import com.ohgiraffers.comprehensive.order.domain.type.OrderExportFormat;
+import com.ohgiraffers.comprehensive.order.dto.response.OrderExportResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.INVALID_EXPORT_PERIOD;
+import static com.ohgiraffers.comprehensive.order.domain.type.OrderExportFormat.CSV;
+
+/* 주문 내보내기 (관리자)
+ * DB 커서에서 읽은 행을 바로 응답 스트림에 쓰므로 주문 목록 전체를 메모리에 올리지 않는다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final long MAX_PERIOD_DAYS = 366;
+
+    private final OrderExportRepository orderExportRepository;
+    private final ObjectMapper objectMapper;
+
+    /* 기간 확인은 응답을 시작하기 전에 (스트리밍이 시작 된 뒤에는 오류 응답을 보낼 수 없다.) */
+    public void validatePeriod(final LocalDate from, final LocalDate to) {
+
+        if(from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_PERIOD_DAYS) {
+            throw new BadRequestException(INVALID_EXPORT_PERIOD);
+        }
+    }
+
+    /* from ~ to (종료일 포함) 주문을 format 형식으로 outputStream 에 쓴다. */
+    public void export(final LocalDate from, final LocalDate to, final OrderExportFormat format,
+                       final OutputStream outputStream) throws IOException {
+
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+
+        if(format == CSV) {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+            writer.write(OrderExportResponse.CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            orderExportRepository.streamOrders(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), order -> {
+                try {
+                    writer.write(format == CSV ? order.toCsv() : objectMapper.writeValueAsString(order));
+                    writer.write('\n');
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException(e);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트 연결 종료 : 조회를 중단한다.
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+}
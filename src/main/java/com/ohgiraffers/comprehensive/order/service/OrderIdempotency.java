@@ -0,0 +1,148 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ohgiraffers.comprehensive.common.exception.BadRequestException;
+import com.ohgiraffers.comprehensive.common.exception.ConflictException;
+import com.ohgiraffers.comprehensive.common.exception.ServerInternalException;
+import com.ohgiraffers.comprehensive.order.domain.IdempotencyKey;
+import com.ohgiraffers.comprehensive.order.domain.repository.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.FAIL_TO_SERIALIZE_RESPONSE;
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.IDEMPOTENCY_KEY_REUSED;
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.INVALID_IDEMPOTENCY_KEY;
+
+/* 주문 요청 중복 실행 방지 (Idempotency-Key 헤더)
+ * 1. 최근 완료 된 키 : 메모리(만료 시간 있음)에서 확인 -> 주문을 다시 실행하지 않고 성공 응답
+ * 2. 처리 중인 키 : 같은 키로 동시에 들어온 요청은 먼저 들어온 요청의 결과를 기다린다. (single-flight)
+ * 3. 그 외 : DB(tbl_idempotency_key) 확인 후 실행, 키는 주문과 같은 트랜잭션에서 저장된다.
+ * 키마다 요청 본문의 SHA-256 을 함께 저장하고, 같은 키로 다른 본문을 보내면 409 로 거절한다.
+ * 실패한 요청은 키가 저장되지 않으므로 다시 시도할 수 있다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderIdempotency {
+
+    private static final Duration RETENTION = Duration.ofHours(24);
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, String> completed = Caffeine.newBuilder() // scopedKey -> requestHash
+            .expireAfterWrite(RETENTION)
+            .maximumSize(100_000)
+            .build();
+    private final Map<String, CompletableFuture<Void>> executions = new ConcurrentHashMap<>();
+
+    /* action 은 전달 받은 키를 주문과 같은 트랜잭션에서 저장해야 한다. (save(IdempotencyKey)) */
+    public void execute(final Long memberCode, final String idempotencyKey, final Object request,
+                        final Consumer<IdempotencyKey> action) {
+
+        if(!KEY_PATTERN.matcher(idempotencyKey).matches()) throw new BadRequestException(INVALID_IDEMPOTENCY_KEY);
+
+        final String scopedKey = memberCode + ":" + idempotencyKey;
+        final String requestHash = hash(request);
+
+        final String completedHash = completed.getIfPresent(scopedKey);
+        if(completedHash != null) {
+            verifySameRequest(completedHash, requestHash);
+            return;
+        }
+
+        final CompletableFuture<Void> execution = new CompletableFuture<>();
+        final CompletableFuture<Void> inFlight = executions.putIfAbsent(scopedKey, execution);
+        if(inFlight != null) {
+            await(inFlight);
+            verifySameRequest(completed.getIfPresent(scopedKey), requestHash);
+            return;
+        }
+
+        try {
+            final Optional<IdempotencyKey> savedKey = idempotencyKeyRepository.findById(scopedKey);
+            if(savedKey.isPresent()) {
+                verifySameRequest(savedKey.get().getRequestHash(), requestHash);
+            } else {
+                run(IdempotencyKey.of(scopedKey, memberCode, requestHash), action);
+            }
+            completed.put(scopedKey, requestHash);
+            execution.complete(null);
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            executions.remove(scopedKey, execution);
+        }
+    }
+
+    /* 키 저장 : 주문 트랜잭션 안에서 호출 */
+    public void save(final IdempotencyKey idempotencyKey) {
+        idempotencyKeyRepository.saveAndFlush(idempotencyKey);
+    }
+
+    /* 보관 기간이 지난 키 정리 (매일 04시) */
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void deleteExpiredKeys() {
+
+        final int deleted = idempotencyKeyRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(RETENTION));
+        log.info("만료 된 Idempotency-Key {}건 삭제", deleted);
+    }
+
+    private void run(final IdempotencyKey idempotencyKey, final Consumer<IdempotencyKey> action) {
+        try {
+            action.accept(idempotencyKey);
+        } catch (DataIntegrityViolationException e) {
+            /* 다른 서버에서 같은 키가 먼저 저장 된 경우 : 이 요청의 주문은 롤백 되었으므로 재요청으로 처리한다. */
+            final IdempotencyKey savedKey = idempotencyKeyRepository.findById(idempotencyKey.getIdempotencyKey())
+                    .orElseThrow(() -> e);
+            verifySameRequest(savedKey.getRequestHash(), idempotencyKey.getRequestHash());
+        }
+    }
+
+    /* 먼저 처리 된 요청과 본문이 다르면 같은 키를 다른 주문에 재사용한 것이다. */
+    private static void verifySameRequest(final String savedHash, final String requestHash) {
+        if(savedHash != null && !savedHash.equals(requestHash)) throw new ConflictException(IDEMPOTENCY_KEY_REUSED);
+    }
+
+    /* 요청 본문(JSON 직렬화)의 SHA-256 (hex) */
+    private String hash(final Object request) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            final StringBuilder hex = new StringBuilder(digest.length * 2);
+            for(byte b : digest) hex.append(String.format("%02x", b));
+            return hex.toString();
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new ServerInternalException(FAIL_TO_SERIALIZE_RESPONSE);
+        }
+    }
+
+    private static void await(final CompletableFuture<Void> inFlight) {
+        try {
+            inFlight.join();
+        } catch (CompletionException e) {
+            /* 먼저 실행 된 요청과 같은 오류로 응답한다. */
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ohgiraffers.comprehensive.common.exception.NotFoundException;
+import com.ohgiraffers.comprehensive.common.exception.ServiceUnavailableException;
+import com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode;
+import com.ohgiraffers.comprehensive.order.domain.OrderTicket;
+import com.ohgiraffers.comprehensive.order.domain.PendingOrder;
+import com.ohgiraffers.comprehensive.order.domain.repository.OrderJdbcRepository;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductSoldEvent;
+import com.ohgiraffers.comprehensive.product.domain.repository.SalesJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.*;
+
+/* 비동기 주문 접수 (group commit)
+ * 요청 스레드는 크기가 정해진 대기열에 주문을 넣고 접수 번호만 응답한다. 대기열이 가득 차면 503 으로 거절한다. (backpressure)
+ * 주문 저장 스레드 하나가 최대 group-size 건 또는 max-latency-ms 동안 모인 주문을 한 트랜잭션으로 저장한다.
+ * - 상품 재고를 productCode 순서로 한 번에 잠그고 조회 -> 도착 순서대로 재고 배정
+ * - 재고 차감 구문 하나 + 주문 JDBC batch insert 하나
+ * 묶음 저장이 실패하면 한 건씩 다시 저장해서 문제가 있는 주문만 거절한다.
+ * 대기열의 주문은 재고 장부에서 DB 차감 주문으로 세고 있으므로, 처리가 끝나면 장부에 알린다. (장부 등록이 이를 기다린다.)
+ * */
+@Slf4j
+@Component
+public class OrderIngestion {
+
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final SalesJdbcRepository salesJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockLedger stockLedger;
+    private final BlockingQueue<QueuedOrder> queue;
+    private final int groupSize;
+    private final long maxLatencyNanos;
+    private final Cache<String, OrderTicket> tickets = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .maximumSize(100_000)
+            .build();
+
+    private final Thread writer = new Thread(this::run, "order-group-writer");
+    private volatile boolean running = true;
+
+    public OrderIngestion(OrderJdbcRepository orderJdbcRepository, SalesJdbcRepository salesJdbcRepository,
+                          TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                          StockLedger stockLedger,
+                          @Value("${order.async.queue-capacity}") int queueCapacity,
+                          @Value("${order.async.group-size}") int groupSize,
+                          @Value("${order.async.max-latency-ms}") long maxLatencyMs) {
+        this.orderJdbcRepository = orderJdbcRepository;
+        this.salesJdbcRepository = salesJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.stockLedger = stockLedger;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.groupSize = groupSize;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    /* 종료 시 대기열에 남은 주문까지 저장한 뒤 멈춘다. */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /* 1. 주문 접수 */
+    public OrderTicket submit(final PendingOrder pendingOrder) {
+
+        final OrderTicket ticket = OrderTicket.issue(pendingOrder.getMemberCode());
+        tickets.put(ticket.getTicketId(), ticket);
+
+        if(!running || !queue.offer(new QueuedOrder(ticket, pendingOrder))) {
+            tickets.invalidate(ticket.getTicketId());
+            throw new ServiceUnavailableException(ORDER_QUEUE_FULL);
+        }
+        return ticket;
+    }
+
+    /* 2. 이미 처리가 끝난 주문의 접수 번호 (재고 장부 상품) */
+    public OrderTicket accepted(final Long memberCode) {
+
+        final OrderTicket ticket = OrderTicket.issue(memberCode);
+        ticket.accept();
+        tickets.put(ticket.getTicketId(), ticket);
+        return ticket;
+    }
+
+    /* 3. 접수 결과 조회 : 본인 주문만 */
+    public OrderTicket getTicket(final String ticketId, final Long memberCode) {
+
+        final OrderTicket ticket = tickets.getIfPresent(ticketId);
+        if(ticket == null || !ticket.getMemberCode().equals(memberCode)) {
+            throw new NotFoundException(NOT_FOUND_ORDER_TICKET);
+        }
+        return ticket;
+    }
+
+    private void run() {
+
+        while(running || !queue.isEmpty()) {
+            try {
+                final List<QueuedOrder> group = collectGroup();
+                if(!group.isEmpty()) commit(group);
+            } catch (InterruptedException e) {
+                /* 종료 요청 : running 이 false 이므로 남은 주문을 저장하고 끝낸다. */
+            } catch (RuntimeException e) {
+                log.error("주문 저장 스레드 오류 {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /* 첫 주문을 기다린 뒤 group-size 가 차거나 max-latency 가 지날 때까지 모은다. */
+    private List<QueuedOrder> collectGroup() throws InterruptedException {
+
+        final List<QueuedOrder> group = new ArrayList<>(groupSize);
+        final QueuedOrder first = running ? queue.poll(100, TimeUnit.MILLISECONDS) : queue.poll();
+        if(first == null) return group;
+
+        group.add(first);
+        final long deadline = System.nanoTime() + maxLatencyNanos;
+        while(group.size() < groupSize) {
+            queue.drainTo(group, groupSize - group.size());
+            final long remaining = deadline - System.nanoTime();
+            if(group.size() >= groupSize || remaining <= 0 || !running) break;
+
+            final QueuedOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if(next == null) break;
+            group.add(next);
+        }
+        return group;
+    }
+
+    private void commit(final List<QueuedOrder> group) {
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(group));
+        } catch (RuntimeException e) {
+            /* 한 건 때문에 전체가 롤백 된 경우 : 한 건씩 다시 저장해서 실패한 주문만 거절한다. */
+            log.warn("주문 {}건 일괄 저장에 실패하여 한 건씩 다시 저장합니다. {}", group.size(), e.getMessage());
+            group.forEach(this::commitOne);
+        }
+
+        /* 커밋(또는 롤백) 이후에 결과를 공개한다. */
+        group.forEach(order -> {
+            if(order.result == null) order.ticket.accept();
+            else order.ticket.reject(order.result);
+            stockLedger.completeDatabaseOrder(order.pendingOrder.getProductCode());
+        });
+    }
+
+    private void commitOne(final QueuedOrder order) {
+
+        order.result = null;
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(List.of(order)));
+        } catch (RuntimeException e) {
+            log.error("주문 저장에 실패하였습니다. (회원 {}, 상품 {}) {}",
+                    order.pendingOrder.getMemberCode(), order.pendingOrder.getProductCode(), e.getMessage());
+            order.result = FAIL_TO_SAVE_ORDER;
+        }
+    }
+
+    private void write(final List<QueuedOrder> group) {
+
+        final SortedSet<Long> productCodes = group.stream()
+                .map(order -> order.pendingOrder.getProductCode())
+                .collect(Collectors.toCollection(TreeSet::new));
+        final Map<Long, Long> stocks = orderJdbcRepository.findStocksForUpdate(productCodes);
+
+        final SortedMap<Long, Long> amounts = new TreeMap<>();
+        final List<PendingOrder> accepted = new ArrayList<>(group.size());
+        for(QueuedOrder order : group) {
+            final Long productCode = order.pendingOrder.getProductCode();
+            final Long amount = order.pendingOrder.getOrderAmount();
+            final Long stock = stocks.get(productCode);
+
+            if(stock == null) {
+                order.result = NOT_FOUND_PRODUCT_CODE;
+            } else if(stock < amount) {
+                order.result = NOT_ENOUGH_STOCK;
+            } else {
+                stocks.put(productCode, stock - amount);
+                amounts.merge(productCode, amount, Long::sum);
+                accepted.add(order.pendingOrder);
+            }
+        }
+
+        if(accepted.isEmpty()) return;
+
+        /* 잠근 재고 안에서 배정했으므로 차감은 항상 성공해야 한다. */
+        if(!orderJdbcRepository.decreaseStocksIfAvailable(amounts)) {
+            throw new IllegalStateException("잠근 재고와 차감 결과가 다릅니다.");
+        }
+        orderJdbcRepository.batchInsert(accepted);
+        salesJdbcRepository.addSales(LocalDate.now(), amounts);
+        eventPublisher.publishEvent(ProductSoldEvent.of(amounts.keySet()));
+    }
+
+    private static class QueuedOrder {
+
+        private final OrderTicket ticket;
+        private final PendingOrder pendingOrder;
+        private ExceptionCode result; // 주문 저장 스레드에서만 사용 (null 이면 저장 성공)
+
+        QueuedOrder(final OrderTicket ticket, final PendingOrder pendingOrder) {
+            this.ticket = ticket;
+            this.pendingOrder = pendingOrder;
+        }
+    }
+}
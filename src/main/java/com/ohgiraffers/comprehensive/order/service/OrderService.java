@@ -3,19 +3,42 @@ package com.ohgiraffers.comprehensive.order.service;
 import com.ohgiraffers.comprehensive.common.exception.ConflictException;
 import com.ohgiraffers.comprehensive.common.exception.NotFoundException;
 import com.ohgiraffers.comprehensive.jwt.CustomUser;
+import com.ohgiraffers.comprehensive.order.domain.IdempotencyKey;
 import com.ohgiraffers.comprehensive.order.domain.Order;
+import com.ohgiraffers.comprehensive.order.domain.OrderTicket;
+import com.ohgiraffers.comprehensive.order.domain.PendingOrder;
+import com.ohgiraffers.comprehensive.order.domain.projection.OrderSummary;
+import com.ohgiraffers.comprehensive.order.domain.repository.OrderJdbcRepository;
+import com.ohgiraffers.comprehensive.order.dto.reqeust.CartItemRequest;
+import com.ohgiraffers.comprehensive.order.dto.reqeust.CartOrderCreateRequest;
 import com.ohgiraffers.comprehensive.order.dto.reqeust.OrderCreateRequest;
 import com.ohgiraffers.comprehensive.order.domain.repository.OrderRepository;
 import com.ohgiraffers.comprehensive.order.dto.response.OrderResponse;
+import com.ohgiraffers.comprehensive.order.dto.response.OrderTicketResponse;
 import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductSoldEvent;
 import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
+import com.ohgiraffers.comprehensive.product.domain.repository.SalesJdbcRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.NOT_ENOUGH_STOCK;
 import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.NOT_FOUND_PRODUCT_CODE;
@@ -27,18 +50,75 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final SalesJdbcRepository salesJdbcRepository;
+    private final StockLedger stockLedger;
+    private final StockReservationWriter stockReservationWriter;
+    private final OrderIngestion orderIngestion;
+    private final OrderIdempotency orderIdempotency;
+    private final PurchaseIndex purchaseIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /* 재고 장부에 등록 된 상품은 메모리에서 예약하고 주문 + 차감 대기 기록만 저장한다. (재고 행은 StockReservationWriter 가 모아서 차감)
+     * 그 외 상품은 한 트랜잭션에서 재고 차감 + 주문 저장
+     * */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void save(OrderCreateRequest orderRequest, CustomUser customUser) {
 
-        Product product = productRepository.findById(orderRequest.getProductCode())
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_PRODUCT_CODE));
+        placeOrder(orderRequest, customUser, null);
+    }
+
+    /* 1. 주문 등록 (Idempotency-Key) : 같은 키로 다시 요청하면 주문을 다시 실행하지 않는다. */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void save(OrderCreateRequest orderRequest, CustomUser customUser, String idempotencyKey) {
+
+        if(idempotencyKey == null) {
+            placeOrder(orderRequest, customUser, null);
+            return;
+        }
+
+        orderIdempotency.execute(customUser.getMemberCode(), idempotencyKey, orderRequest,
+                key -> placeOrder(orderRequest, customUser, key));
+    }
+
+    private void placeOrder(OrderCreateRequest orderRequest, CustomUser customUser, IdempotencyKey idempotencyKey) {
 
-        /* 주문 가능 여부 확인 */
-        if(product.getProductStock() < orderRequest.getOrderAmount()) {
+        /* 구매 이력 색인은 저장 전에 추가한다. (저장에 실패해도 오탐일 뿐이며, 커밋 후 추가하면 그 사이 리뷰 작성이 거절 될 수 있다.) */
+        purchaseIndex.add(customUser.getMemberCode(), orderRequest.getProductCode());
+
+        final StockLedger.Result reservation = stockLedger.reserve(orderRequest.getProductCode(), orderRequest.getOrderAmount());
+
+        if(reservation == StockLedger.Result.NOT_ENOUGH_STOCK) {
             throw new ConflictException(NOT_ENOUGH_STOCK);
         }
 
-        /* 재고수정 */
-        product.updateStock(orderRequest.getOrderAmount());
+        if(reservation == StockLedger.Result.RESERVED) {
+            /* 주문, 차감 대기 기록, 키를 한 트랜잭션으로 저장하고 커밋 된 뒤에 응답한다. */
+            saveReservedOrders(List.of(PendingOrder.of(orderRequest, customUser.getMemberCode())), () -> {
+                if(idempotencyKey != null) orderIdempotency.save(idempotencyKey);
+            });
+            return;
+        }
+
+        /* 장부에 없는 상품 : 저장이 끝나면 장부에 알린다. (장부 등록이 진행 중인 DB 차감 주문을 기다린다.) */
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                saveOrder(orderRequest, customUser);
+                if(idempotencyKey != null) orderIdempotency.save(idempotencyKey);
+            });
+        } finally {
+            stockLedger.completeDatabaseOrder(orderRequest.getProductCode());
+        }
+    }
+
+    private void saveOrder(OrderCreateRequest orderRequest, CustomUser customUser) {
+
+        /* 재고 확인 + 재고수정 : 조건부 UPDATE 한 번으로 처리해서 동시 주문에도 초과 판매 되지 않는다. */
+        decreaseStock(orderRequest.getProductCode(), orderRequest.getOrderAmount());
+
+        /* 주문에는 조회 없이 프록시(reference)를 연결한다. */
+        Product product = productRepository.getReferenceById(orderRequest.getProductCode());
 
         final Order newOrder = Order.of(
                 product,
@@ -52,6 +132,140 @@ public class OrderService {
 
         /* 주문 저장 */
         orderRepository.save(newOrder);
+
+        /* 판매 집계 : 주문과 같은 트랜잭션에서 커밋 된다. */
+        salesJdbcRepository.addSales(LocalDate.now(), new TreeMap<>(Map.of(orderRequest.getProductCode(), orderRequest.getOrderAmount())));
+        eventPublisher.publishEvent(ProductSoldEvent.of(Set.of(orderRequest.getProductCode())));
+    }
+
+    /* 장부 예약 주문 저장 : 실패하면 예약을 되돌리고, 성공 / 실패 모두 장부에 저장 완료를 알린다. (장부 해제가 이를 기다린다.) */
+    private void saveReservedOrders(final List<PendingOrder> orders, final Runnable withinTransaction) {
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                stockReservationWriter.save(orders);
+                withinTransaction.run();
+            });
+        } catch (RuntimeException e) {
+            orders.forEach(order -> stockLedger.adjust(order.getProductCode(), order.getOrderAmount()));
+            throw e;
+        } finally {
+            orders.forEach(order -> stockLedger.complete(order.getProductCode()));
+        }
+    }
+
+    /* 1-2. 비동기 주문 : 대기열에 넣고 접수 번호만 응답, 저장은 OrderIngestion 에서 모아서 처리 */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderTicketResponse saveAsync(OrderCreateRequest orderRequest, CustomUser customUser) {
+
+        purchaseIndex.add(customUser.getMemberCode(), orderRequest.getProductCode());
+
+        final StockLedger.Result reservation = stockLedger.reserve(orderRequest.getProductCode(), orderRequest.getOrderAmount());
+
+        if(reservation == StockLedger.Result.NOT_ENOUGH_STOCK) {
+            throw new ConflictException(NOT_ENOUGH_STOCK);
+        }
+
+        final PendingOrder pendingOrder = PendingOrder.of(orderRequest, customUser.getMemberCode());
+
+        /* 재고 장부 상품은 예약 후 주문 행만 바로 저장하면 확정이다. (대기열을 거치지 않는다.) */
+        if(reservation == StockLedger.Result.RESERVED) {
+            saveReservedOrders(List.of(pendingOrder), () -> {});
+            return OrderTicketResponse.from(orderIngestion.accepted(customUser.getMemberCode()));
+        }
+
+        /* 대기열에 들어간 주문은 OrderIngestion 이 저장을 마친 뒤 장부에 알린다. */
+        final OrderTicket ticket;
+        try {
+            ticket = orderIngestion.submit(pendingOrder);
+        } catch (RuntimeException e) {
+            stockLedger.completeDatabaseOrder(orderRequest.getProductCode());
+            throw e;
+        }
+
+        return OrderTicketResponse.from(ticket);
+    }
+
+    /* 1-3. 비동기 주문 처리 결과 조회 */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderTicketResponse getOrderTicket(String ticketId, CustomUser customUser) {
+
+        return OrderTicketResponse.from(orderIngestion.getTicket(ticketId, customUser.getMemberCode()));
+    }
+
+    /* 1-1. 장바구니 주문 : 여러 상품을 한 트랜잭션으로 주문 (하나라도 재고가 부족하면 전체 취소)
+     * 같은 상품 행은 합치고 productCode 오름차순으로 처리해서 동시 주문 사이의 잠금 순서를 고정한다.
+     * */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void saveCart(CartOrderCreateRequest cartRequest, CustomUser customUser) {
+
+        final SortedMap<Long, Long> amounts = new TreeMap<>();
+        for(CartItemRequest item : cartRequest.getItems()) {
+            amounts.merge(item.getProductCode(), item.getOrderAmount(), Long::sum);
+        }
+
+        amounts.keySet().forEach(productCode -> purchaseIndex.add(customUser.getMemberCode(), productCode));
+
+        /* 재고 장부 상품은 먼저 메모리에서 예약하고, 이후 단계가 실패하면 되돌린다.
+         * 장부 상품의 주문 + 차감 대기 기록과 나머지 상품의 재고 차감 + 주문은 한 트랜잭션으로 저장한다.
+         * */
+        final SortedMap<Long, Long> reserved = new TreeMap<>();
+        final SortedMap<Long, Long> databaseAmounts = new TreeMap<>();
+        try {
+            amounts.forEach((productCode, amount) -> {
+                final StockLedger.Result reservation = stockLedger.reserve(productCode, amount);
+                if(reservation == StockLedger.Result.NOT_ENOUGH_STOCK) throw new ConflictException(NOT_ENOUGH_STOCK);
+                if(reservation == StockLedger.Result.RESERVED) reserved.put(productCode, amount);
+                else databaseAmounts.put(productCode, amount);
+            });
+
+            final List<PendingOrder> reservedOrders = new ArrayList<>(reserved.size());
+            reserved.forEach((productCode, amount) ->
+                    reservedOrders.add(PendingOrder.of(cartRequest, productCode, amount, customUser.getMemberCode())));
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if(!databaseAmounts.isEmpty()) saveCartOrders(cartRequest, databaseAmounts, customUser.getMemberCode());
+                if(!reservedOrders.isEmpty()) stockReservationWriter.save(reservedOrders);
+            });
+        } catch (RuntimeException e) {
+            reserved.forEach(stockLedger::adjust);
+            throw e;
+        } finally {
+            reserved.keySet().forEach(stockLedger::complete);
+            databaseAmounts.keySet().forEach(stockLedger::completeDatabaseOrder);
+        }
+    }
+
+    private void saveCartOrders(CartOrderCreateRequest cartRequest, SortedMap<Long, Long> amounts, Long memberCode) {
+
+        /* 상품 존재 여부는 한 번에 조회 */
+        if(productRepository.findAllById(amounts.keySet()).size() != amounts.size()) {
+            throw new NotFoundException(NOT_FOUND_PRODUCT_CODE);
+        }
+
+        /* 재고 차감은 구문 하나, 주문 저장은 JDBC batch 하나 */
+        if(!orderJdbcRepository.decreaseStocksIfAvailable(amounts)) {
+            throw new ConflictException(NOT_ENOUGH_STOCK);
+        }
+
+        final List<PendingOrder> orders = new ArrayList<>(amounts.size());
+        amounts.forEach((productCode, amount) -> orders.add(PendingOrder.of(cartRequest, productCode, amount, memberCode)));
+        orderJdbcRepository.batchInsert(orders);
+        salesJdbcRepository.addSales(LocalDate.now(), amounts);
+        eventPublisher.publishEvent(ProductSoldEvent.of(amounts.keySet()));
+    }
+
+    private void decreaseStock(final Long productCode, final Long orderAmount) {
+
+        final int updated = productRepository.decreaseStock(productCode, orderAmount, LocalDateTime.now());
+
+        /* 주문 가능 여부 확인 : 실패한 경우에만 원인(상품 없음 / 재고 부족)을 조회한다. */
+        if(updated == 0) {
+            if(!productRepository.existsById(productCode)) {
+                throw new NotFoundException(NOT_FOUND_PRODUCT_CODE);
+            }
+            throw new ConflictException(NOT_ENOUGH_STOCK);
+        }
     }
 
     private Pageable getPageable(final Integer page) {
@@ -61,7 +275,19 @@ public class OrderService {
     @Transactional(readOnly = true)
     public Page<OrderResponse> getOrders(Integer page, CustomUser customUser) {
 
-        Page<Order> orders = orderRepository.findByMemberCode(getPageable(page), customUser.getMemberCode());
+        Page<OrderSummary> orders = orderRepository.findByMemberCode(getPageable(page), customUser.getMemberCode());
+
+        return orders.map(order -> OrderResponse.from(order));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<OrderResponse> getOrdersAfter(Long after, CustomUser customUser) {
+
+        Slice<OrderSummary> orders = orderRepository.findByMemberCodeAndOrderCodeLessThan(
+                PageRequest.of(0, 5, Sort.by("orderCode").descending()),
+                customUser.getMemberCode(),
+                after == null ? Long.MAX_VALUE : after
+        );
 
         return orders.map(order -> OrderResponse.from(order));
     }
@@ -0,0 +1,91 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import com.ohgiraffers.comprehensive.order.domain.repository.OrderJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/* 구매 이력 색인 (memberCode, productCode) : bloom filter
+ * mightHavePurchased 가 false 면 구매하지 않은 것이 확실하므로 DB 조회 없이 거절할 수 있고,
+ * true 면 (오탐 가능) 주문 테이블에서 한 번 더 확인한다.
+ * 원소를 지울 수 없으므로 주문이 롤백 되더라도 그대로 두며, 이는 오탐으로만 이어진다.
+ * 시작 시 주문 테이블에서 다시 만들고 이후 주문은 OrderService 에서 추가한다. (서버 한 대 기준, StockLedger 와 같음)
+ * */
+@Slf4j
+@Component
+public class PurchaseIndex {
+
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private volatile boolean loaded;
+
+    public PurchaseIndex(OrderJdbcRepository orderJdbcRepository,
+                         @Value("${review.purchase-index.expected-purchases}") long expectedPurchases,
+                         @Value("${review.purchase-index.false-positive-rate}") double falsePositiveRate) {
+        this.orderJdbcRepository = orderJdbcRepository;
+
+        /* m = -n ln(p) / (ln 2)^2, k = m / n * ln 2 */
+        final long bits = (long) Math.ceil(-expectedPurchases * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bits + 63) / 64));
+        this.bitSize = this.bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedPurchases * Math.log(2)));
+    }
+
+    /* 시작 시 주문 테이블 전체를 한 번 읽는다. (읽는 동안 들어온 주문도 같은 비트 배열에 추가 되므로 유실 되지 않는다.) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        try {
+            orderJdbcRepository.streamPurchases(this::add);
+            loaded = true;
+        } catch (DataAccessException e) {
+            log.error("구매 이력 색인을 만들지 못했습니다. 구매 확인은 DB 에서 처리합니다. {}", e.getMessage());
+        }
+    }
+
+    public void add(final Long memberCode, final Long productCode) {
+
+        final long hash = hash(memberCode, productCode);
+        final long h1 = hash, h2 = (hash >>> 32) | 1;
+        for(int i = 0; i < hashCount; i++) {
+            final long bit = Math.floorMod(h1 + i * h2, bitSize);
+            final int word = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+            long current;
+            while(((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /* false 면 구매 이력이 없다. (만들기 전에는 항상 true) */
+    public boolean mightHavePurchased(final Long memberCode, final Long productCode) {
+
+        if(!loaded) return true;
+
+        final long hash = hash(memberCode, productCode);
+        final long h1 = hash, h2 = (hash >>> 32) | 1;
+        for(int i = 0; i < hashCount; i++) {
+            final long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /* murmur3 fmix64 */
+    private static long hash(final Long memberCode, final Long productCode) {
+
+        long h = memberCode * 0x9E3779B97F4A7C15L + productCode;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53e1a85L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
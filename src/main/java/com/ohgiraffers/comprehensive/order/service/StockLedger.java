@@ -0,0 +1,252 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/* 인기 상품 재고를 메모리에서 예약하는 장부
+ * 상품 하나의 재고를 STRIPES 개 칸에 나눠 두고, 스레드마다 다른 칸부터 CAS 로 차감해서 같은 값을 두고 경쟁하지 않게 한다.
+ * 각 칸은 캐시 라인(64 byte) 하나씩 차지하도록 띄워서 배치한다. (false sharing 방지)
+ * 한 칸으로 부족하면 상품 잠금을 잡고 모든 칸을 모아서 다시 확인한다. (전체 재고가 있는데 거절하지 않는다.)
+ *
+ * 예약(RESERVED)은 주문 저장이 끝날 때까지 진행 중으로 세며, 호출한 쪽은 저장 후 반드시 complete 를 호출해야 한다.
+ * 장부에 없는 상품(NOT_MANAGED)도 DB 차감 주문이 커밋 될 때까지 상품별로 세며, 호출한 쪽은 저장 후 completeDatabaseOrder 를 호출해야 한다.
+ * 관리 시작은 register(새 주문 대기) -> 진행 중 DB 차감 주문 완료 대기 -> DB 재고 조회 -> open(재고 채움) 순서이고,
+ * 관리 종료는 close(새 예약 대기) -> 진행 중 예약 저장 완료 대기 -> release(제거) 순서이며,
+ * 칸은 상품마다 새로 만들고 재사용하지 않으므로 이전 상품의 예약이 다른 상품 재고에 섞이지 않는다.
+ * */
+@Component
+public class StockLedger {
+
+    public enum Result { RESERVED, NOT_ENOUGH_STOCK, NOT_MANAGED }
+
+    private static final int MAX_PRODUCTS = 64;
+    private static final int STRIPES = 8;
+    private static final int PADDING = 8; // long 8개 = 64 byte
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    /* 장부에 없는 상품의 진행 중인 DB 차감 주문 수 (0 이 되면 제거) */
+    private final Map<Long, Integer> databaseOrders = new ConcurrentHashMap<>();
+
+    public boolean isManaged(final Long productCode) {
+        return slots.containsKey(productCode);
+    }
+
+    public Set<Long> getManagedProductCodes() {
+        return slots.keySet();
+    }
+
+    /* 1. 재고 예약 : RESERVED 이면 주문 저장 후 complete, NOT_MANAGED 이면 DB 차감 주문 저장 후 completeDatabaseOrder 를 호출해야 한다.
+     * DB 차감 주문 수를 먼저 올리고 장부를 확인하며, register 는 장부를 먼저 등록하고 DB 차감 주문 수를 확인한다.
+     * (Slot 의 enter / close 와 같은 순서이므로 어느 한 쪽은 반드시 상대를 본다.)
+     * */
+    public Result reserve(final Long productCode, final long amount) {
+
+        while(true) {
+            databaseOrders.merge(productCode, 1, Integer::sum);
+            final Slot slot = slots.get(productCode);
+            if(slot == null) return Result.NOT_MANAGED;
+            completeDatabaseOrder(productCode);
+
+            /* 기다리는 동안 장부에서 제거 되었으면 처음부터 다시 확인한다. */
+            if(!slot.enter()) continue;
+
+            final Result result = take(slot, amount);
+            if(result != Result.RESERVED) slot.exit();
+            return result;
+        }
+    }
+
+    /* 1-1. 예약 주문 저장 완료 (성공 / 실패 모두) */
+    public void complete(final Long productCode) {
+
+        final Slot slot = slots.get(productCode);
+        if(slot != null) slot.exit();
+    }
+
+    /* 1-2. DB 차감 주문 저장 완료 (성공 / 실패 모두, 비동기 주문은 대기열에서 처리가 끝난 뒤) */
+    public void completeDatabaseOrder(final Long productCode) {
+
+        databaseOrders.computeIfPresent(productCode, (code, count) -> count == 1 ? null : count - 1);
+    }
+
+    /* 2. 재고 증감 : 저장 실패한 예약 반환, 관리자 재고 수정 반영 (음수 칸은 모아서 확인할 때 상쇄된다.)
+     * 재고를 채우기 전(SEEDING)의 증감은 채울 때 읽는 DB 재고에 이미 들어 있으므로 무시한다.
+     * */
+    public void adjust(final Long productCode, final long delta) {
+
+        final Slot slot = slots.get(productCode);
+        if(slot != null && slot.state != Slot.SEEDING) slot.cells.addAndGet(cell(homeStripe()), delta);
+    }
+
+    /* 3. 남은 재고 (조회용, 순간 값) */
+    public long getAvailable(final Long productCode) {
+
+        final Slot slot = slots.get(productCode);
+        if(slot == null) return 0;
+
+        long total = 0;
+        for(int i = 0; i < STRIPES; i++) total += slot.cells.get(cell(i));
+        return total;
+    }
+
+    /* 4. 관리 시작 준비 : 빈 장부를 등록해서 새 주문은 재고를 채울 때까지 기다리게 하고, 진행 중인 DB 차감 주문이 끝날 때까지 기다린다.
+     * 이미 등록 된 상품이면 false
+     * */
+    public boolean register(final Long productCode) {
+
+        synchronized (this) {
+            if(slots.containsKey(productCode)) return false;
+            if(slots.size() >= MAX_PRODUCTS) throw new IllegalStateException("재고 장부에 등록할 수 있는 상품 수를 초과했습니다.");
+            slots.put(productCode, new Slot());
+        }
+
+        /* 관리 시작은 드물게 일어나고 DB 차감 주문은 짧으므로 조건 변수 없이 잠깐씩 쉬면서 확인한다. */
+        while(databaseOrders.containsKey(productCode)) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    /* 4-1. 관리 시작 : DB 재고로 칸을 채우고 기다리던 주문을 장부에서 처리한다. */
+    public synchronized void open(final Long productCode, final long stock) {
+
+        final Slot slot = slots.get(productCode);
+        if(slot == null || slot.state != Slot.SEEDING) return;
+
+        for(int i = 0; i < STRIPES; i++) {
+            slot.cells.set(cell(i), stock / STRIPES + (i == 0 ? stock % STRIPES : 0));
+        }
+        slot.settle(Slot.OPEN);
+    }
+
+    /* 5. 관리 종료 준비 : 새 예약은 종료가 끝날 때까지 기다리게 하고, 진행 중인 예약의 저장이 끝날 때까지 기다린다. */
+    public synchronized boolean close(final Long productCode) {
+
+        final Slot slot = slots.get(productCode);
+        if(slot == null) return false;
+
+        slot.close();
+        return true;
+    }
+
+    /* 5-1. 관리 종료 (관리 시작 실패 포함) : 기다리던 예약은 NOT_MANAGED 로 DB 에서 차감한다. */
+    public synchronized void release(final Long productCode) {
+
+        final Slot slot = slots.remove(productCode);
+        if(slot != null) slot.settle(Slot.REMOVED);
+    }
+
+    /* 5-2. 관리 종료 취소 : 기다리던 예약은 다시 장부에서 처리한다. */
+    public synchronized void reopen(final Long productCode) {
+
+        final Slot slot = slots.get(productCode);
+        if(slot != null) slot.settle(Slot.OPEN);
+    }
+
+    private Result take(final Slot slot, final long amount) {
+
+        final int home = homeStripe();
+        for(int i = 0; i < STRIPES; i++) {
+            final int index = cell((home + i) % STRIPES);
+            long current;
+            while((current = slot.cells.get(index)) >= amount) {
+                if(slot.cells.compareAndSet(index, current, current - amount)) return Result.RESERVED;
+            }
+        }
+
+        /* 칸마다 조금씩 남은 경우 : 모두 모아서 확인 후 남은 재고는 한 칸에 되돌린다. */
+        slot.lock.lock();
+        try {
+            long total = 0;
+            for(int i = 0; i < STRIPES; i++) total += slot.cells.getAndSet(cell(i), 0);
+            final boolean enough = total >= amount;
+            slot.cells.addAndGet(cell(home), enough ? total - amount : total);
+            return enough ? Result.RESERVED : Result.NOT_ENOUGH_STOCK;
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    private static int cell(final int stripe) {
+        return stripe * PADDING;
+    }
+
+    private static int homeStripe() {
+        return (int) (Thread.currentThread().getId() % STRIPES);
+    }
+
+    /* 상품 하나의 재고 칸과 진행 중인 예약 수
+     * enter 는 진행 중 수를 먼저 올리고 상태를 확인하며, close 는 상태를 먼저 바꾸고 진행 중 수를 확인한다.
+     * (둘 다 volatile / atomic 이므로 어느 한 쪽은 반드시 상대를 본다.)
+     * */
+    private static class Slot {
+
+        private static final int OPEN = 0;
+        private static final int CLOSING = 1;
+        private static final int REMOVED = 2;
+        private static final int SEEDING = 3;
+
+        private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private volatile int state = SEEDING;
+
+        /* 예약 시작 : 재고를 채우는 중이거나 종료 중이면 결과를 기다렸다가 열리면 예약, 제거 되면 false */
+        boolean enter() {
+            while(true) {
+                inFlight.incrementAndGet();
+                if(state == OPEN) return true;
+                exit();
+
+                lock.lock();
+                try {
+                    while(state == CLOSING || state == SEEDING) changed.awaitUninterruptibly();
+                    if(state == REMOVED) return false;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        void exit() {
+            if(inFlight.decrementAndGet() == 0 && state != OPEN) {
+                lock.lock();
+                try {
+                    changed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                state = CLOSING;
+                while(inFlight.get() > 0) changed.awaitUninterruptibly();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void settle(final int settledState) {
+            lock.lock();
+            try {
+                state = settledState;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
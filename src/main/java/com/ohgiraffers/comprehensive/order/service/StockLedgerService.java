@@ -0,0 +1,111 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import com.ohgiraffers.comprehensive.common.exception.NotFoundException;
+import com.ohgiraffers.comprehensive.order.domain.repository.OrderJdbcRepository;
+import com.ohgiraffers.comprehensive.order.dto.response.StockLedgerResponse;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductStockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.NOT_FOUND_PRODUCT_CODE;
+
+/* 재고 장부 관리 (관리자)
+ * 장부에 등록 된 상품은 주문 시 DB 대신 장부에서 재고를 예약하고, 나머지 상품은 기존처럼 DB 에서 차감한다.
+ * 등록 / 해제는 한 번에 한 상품씩 진행한다. (전환 중인 상품을 기다리는 장바구니 주문이 다른 전환 중인 상품을 붙잡고 있지 않게 한다.)
+ * */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StockLedgerService {
+
+    private final StockLedger stockLedger;
+    private final StockReservationWriter stockReservationWriter;
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${inventory.managed-products}")
+    private List<Long> managedProductCodes;
+
+    /* 1. 시작 시 복구 : 장부는 DB 재고로 다시 만든다.
+     * 예약 주문은 차감 대기 기록과 함께 저장 되므로, 비정상 종료 후에도 기록을 먼저 재고에 반영하면 주문과 재고가 맞는다.
+     * (기록은 요청을 받기 전에 StockReservationWriter.recover 가 반영하고, 등록은 이미 들어온 주문과 manage 로 맞춘다.)
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+
+        managedProductCodes.forEach(this::manage);
+    }
+
+    /* 2. 장부 등록 : 차감 대기 기록을 반영한 뒤의 DB 재고로 시작한다. (반영은 별도 트랜잭션으로 커밋)
+     * 장부를 먼저 등록해서 새 주문을 기다리게 하고, 이미 DB 차감 경로에 들어간 주문(대기열의 비동기 주문 포함)이 끝난 뒤
+     * 재고 행을 잠그고 읽은 값으로 채운다. 잠금을 잡은 채로 열기 때문에 읽은 뒤에 커밋 되는 관리자 재고 수정은 연 장부에 반영된다.
+     * */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void manage(final Long productCode) {
+
+        stockReservationWriter.flush();
+
+        if(!stockLedger.register(productCode)) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                final Long stock = orderJdbcRepository.findStocksForUpdate(new TreeSet<>(Set.of(productCode))).get(productCode);
+                if(stock == null) throw new NotFoundException(NOT_FOUND_PRODUCT_CODE);
+
+                stockLedger.open(productCode, stock);
+            });
+        } catch (RuntimeException e) {
+            /* 기다리던 주문은 DB 에서 차감한다. */
+            stockLedger.release(productCode);
+            throw e;
+        }
+    }
+
+    /* 3. 장부 해제 : 새 예약을 멈추고 진행 중인 예약 주문이 저장 되면 차감 대기 기록을 재고에 반영한 뒤부터 DB 에서 차감한다.
+     * 반영에 실패하면 장부를 다시 열어서 DB 재고와 어긋난 채로 DB 차감을 시작하지 않는다.
+     * */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void release(final Long productCode) {
+
+        if(!stockLedger.close(productCode)) return;
+
+        try {
+            stockReservationWriter.flush();
+        } catch (RuntimeException e) {
+            stockLedger.reopen(productCode);
+            throw e;
+        }
+        stockLedger.release(productCode);
+    }
+
+    /* 4. 장부 상품 목록 */
+    @Transactional(readOnly = true)
+    public List<StockLedgerResponse> getManagedProducts() {
+
+        return stockLedger.getManagedProductCodes().stream()
+                .sorted()
+                .map(productCode -> StockLedgerResponse.of(productCode, stockLedger.getAvailable(productCode)))
+                .collect(Collectors.toList());
+    }
+
+    /* 관리자 재고 수정이 커밋 되면 장부에도 증감량을 반영한다. */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onStockChanged(final ProductStockChangedEvent event) {
+
+        stockLedger.adjust(event.getProductCode(), event.getDelta());
+    }
+}
@@ -0,0 +1,111 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import com.ohgiraffers.comprehensive.order.domain.PendingOrder;
+import com.ohgiraffers.comprehensive.order.domain.StockReservation;
+import com.ohgiraffers.comprehensive.order.domain.repository.OrderJdbcRepository;
+import com.ohgiraffers.comprehensive.order.domain.repository.StockReservationRepository;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductSoldEvent;
+import com.ohgiraffers.comprehensive.product.domain.repository.SalesJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/* 재고 장부(StockLedger) 예약 주문 저장
+ * 1. 주문 : 요청 트랜잭션에서 주문 행과 재고 차감 대기 기록(tbl_stock_reservation)을 함께 저장한다. (응답 전에 DB 에 남는다.)
+ * 2. 재고 : 차감 대기 기록을 주기적으로 모아서 상품별 재고 차감, 판매 집계, 기록 삭제를 한 트랜잭션으로 처리한다. (write-behind)
+ * 인기 상품 행을 주문마다 잠그지 않는 것이 목적이므로 요청 경로에는 append 만 있다.
+ * 반영에 실패하면 기록이 남아 있으므로 다음 주기에 다시 시도한다.
+ * 비정상 종료로 남은 기록은 요청을 받기 전(빈 초기화 시점)에 반영한다. 장부에 등록 되기 전의 DB 차감 주문은 기록을 보지 않기 때문이다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationWriter {
+
+    private static final int MAX_BATCH = 1000;
+
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final SalesJdbcRepository salesJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /* 1. 예약 주문 저장 : 호출한 쪽의 트랜잭션에서 주문 행과 차감 대기 기록을 저장한다. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void save(final List<PendingOrder> orders) {
+
+        orderJdbcRepository.batchInsert(orders);
+        stockReservationRepository.batchInsert(orders);
+    }
+
+    /* 2. 차감 대기 기록을 모두 재고에 반영 (장부 등록 / 해제 전에도 호출한다.) */
+    public synchronized void flush() {
+
+        while(apply() == MAX_BATCH) {
+            // 남은 기록이 없을 때까지 반복
+        }
+    }
+
+    /* 시작 시 남은 기록 반영 (실패하면 재고가 맞지 않은 채로 주문을 받지 않도록 시작을 중단한다.) */
+    @PostConstruct
+    public void recover() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.flush-interval-ms}")
+    public void flushPeriodically() {
+
+        try {
+            flush();
+        } catch (DataAccessException e) {
+            log.error("재고 차감 반영에 실패하였습니다. 다음 주기에 다시 시도합니다. {}", e.getMessage());
+        }
+    }
+
+    /* 종료 시 남은 기록 반영 (실패해도 기록이 남아 있으므로 다음 시작 시 반영된다.) */
+    @PreDestroy
+    public void shutdown() {
+        flushPeriodically();
+    }
+
+    private int apply() {
+
+        final Integer applied = transactionTemplate.execute(status -> {
+
+            final List<StockReservation> reservations = stockReservationRepository.findForUpdate(MAX_BATCH);
+            if(reservations.isEmpty()) return 0;
+
+            final SortedMap<Long, Long> amounts = new TreeMap<>();
+            final Map<LocalDate, SortedMap<Long, Long>> sales = new TreeMap<>();
+            reservations.forEach(reservation -> {
+                amounts.merge(reservation.getProductCode(), reservation.getAmount(), Long::sum);
+                /* 판매 집계는 예약 시각 기준 일자로 */
+                sales.computeIfAbsent(reservation.getReservedAt().toLocalDate(), date -> new TreeMap<>())
+                        .merge(reservation.getProductCode(), reservation.getAmount(), Long::sum);
+            });
+
+            orderJdbcRepository.decreaseStocks(amounts);
+            sales.forEach(salesJdbcRepository::addSales);
+            stockReservationRepository.delete(reservations);
+            eventPublisher.publishEvent(ProductSoldEvent.of(amounts.keySet()));
+
+            return reservations.size();
+        });
+
+        return applied == null ? 0 : applied;
+    }
+}
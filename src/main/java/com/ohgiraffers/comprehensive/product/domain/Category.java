@@ -2,7 +2,6 @@ package com.ohgiraffers.comprehensive.product.domain;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.cache.annotation.EnableCaching;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
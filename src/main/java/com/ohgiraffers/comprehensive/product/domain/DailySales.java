@@ -0,0 +1,36 @@
+package com.ohgiraffers.comprehensive.product.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+import static javax.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/* 일자별 상품 판매량 / 판매액 : (salesDate, productCode) 유니크 키로 upsert 한다. */
+@Entity
+@Table(name = "tbl_daily_sales", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_sales_date_product", columnNames = {"salesDate", "productCode"})
+})
+@NoArgsConstructor(access = PROTECTED)
+@Getter
+public class DailySales {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long dailySalesCode;
+
+    @Column(nullable = false)
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private Long productCode;
+
+    @Column(nullable = false)
+    private Long salesUnits;
+
+    @Column(nullable = false)
+    private Long salesRevenue;
+}
@@ -15,7 +15,16 @@ import static javax.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
-@Table(name = "tbl_product")
+@Table(name = "tbl_product", indexes = {
+        /* 목록 필터 / 정렬 : 조건(status, category) 뒤에 정렬 컬럼을 두고 가격 범위, product_stock 은 index condition pushdown 용
+         * (DDL 은 db/migration 의 Flyway 스크립트로 적용한다.) */
+        @Index(name = "idx_product_status_code", columnList = "status, productCode, productPrice, productStock"),
+        @Index(name = "idx_product_status_price", columnList = "status, productPrice, productCode, productStock"),
+        @Index(name = "idx_product_category_status_code", columnList = "categoryCode, status, productCode, productPrice, productStock"),
+        @Index(name = "idx_product_category_status_price", columnList = "categoryCode, status, productPrice, productCode, productStock"),
+        /* facet 집계 (covering index) */
+        @Index(name = "idx_product_facet", columnList = "status, categoryCode, productPrice, productStock")
+})
 @NoArgsConstructor(access = PROTECTED)
 @Getter
 @EntityListeners(AuditingEntityListener.class) // JPA에서 엔터티의 생명주기 이벤트를 수신하는 리스너를 지정하기 위한 어노테이션
@@ -95,8 +104,4 @@ public class Product {
         this.productStock = productStock;
         this.status = status;
     }
-
-    public void updateStock(Long orderAmount) {
-        productStock -= orderAmount;
-    }
 }
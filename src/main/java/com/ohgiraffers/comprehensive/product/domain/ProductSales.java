@@ -0,0 +1,27 @@
+package com.ohgiraffers.comprehensive.product.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/* 상품별 누적 판매량 / 판매액 : 주문 저장과 같은 트랜잭션에서 증가시킨다. (SalesJdbcRepository) */
+@Entity
+@Table(name = "tbl_product_sales", indexes = {
+        @Index(name = "idx_product_sales_units", columnList = "salesUnits")
+})
+@NoArgsConstructor(access = PROTECTED)
+@Getter
+public class ProductSales {
+
+    @Id
+    private Long productCode;
+
+    @Column(nullable = false)
+    private Long salesUnits;
+
+    @Column(nullable = false)
+    private Long salesRevenue; // 주문 시점 상품 가격 * 수량의 합
+}
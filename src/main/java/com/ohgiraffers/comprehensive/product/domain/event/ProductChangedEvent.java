@@ -0,0 +1,47 @@
+package com.ohgiraffers.comprehensive.product.domain.event;
+
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType.DELETED;
+import static lombok.AccessLevel.PRIVATE;
+
+/* 상품 등록/수정/삭제 이벤트
+ * 커밋 이후 메모리 인덱스에서 사용하므로 영속성 컨텍스트 밖에서도 읽을 수 있는 값만 담는다.
+ * */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class ProductChangedEvent {
+
+    private final Long productCode;
+    private final String productName;
+    private final Long productPrice;
+    private final String productImageUrl;
+    private final Long categoryCode;
+    private final ProductStatusType status;
+
+    public static ProductChangedEvent from(final Product product) {
+        return new ProductChangedEvent(
+                product.getProductCode(),
+                product.getProductName(),
+                product.getProductPrice(),
+                product.getProductImageUrl(),
+                product.getCategory().getCategoryCode(),
+                product.getStatus()
+        );
+    }
+
+    /* @SQLDelete 로 삭제 되면 entity 의 status 는 바뀌지 않으므로 DELETED 로 지정한다. */
+    public static ProductChangedEvent deleted(final Product product) {
+        return new ProductChangedEvent(
+                product.getProductCode(),
+                product.getProductName(),
+                product.getProductPrice(),
+                product.getProductImageUrl(),
+                product.getCategory().getCategoryCode(),
+                DELETED
+        );
+    }
+}
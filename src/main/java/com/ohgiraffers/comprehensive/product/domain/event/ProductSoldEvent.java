@@ -0,0 +1,14 @@
+package com.ohgiraffers.comprehensive.product.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/* 주문으로 재고가 차감 된 상품 (커밋 후 상품 상세 캐시 제거) */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class ProductSoldEvent {
+
+    private final Set<Long> productCodes;
+}
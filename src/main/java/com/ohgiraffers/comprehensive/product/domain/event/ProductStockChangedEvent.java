@@ -0,0 +1,13 @@
+package com.ohgiraffers.comprehensive.product.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* 관리자 재고 수정 이벤트 : 메모리 재고 장부는 절대값이 아닌 증감량으로 반영한다. */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class ProductStockChangedEvent {
+
+    private final Long productCode;
+    private final long delta;
+}
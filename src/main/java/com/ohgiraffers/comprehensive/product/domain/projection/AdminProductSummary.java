@@ -0,0 +1,19 @@
+package com.ohgiraffers.comprehensive.product.domain.projection;
+
+import com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType;
+
+/* 관리자용 상품 목록에 필요한 컬럼만 조회 */
+public interface AdminProductSummary {
+
+    Long getProductCode();
+
+    String getProductName();
+
+    Long getProductPrice();
+
+    String getCategoryName();
+
+    Long getProductStock();
+
+    ProductStatusType getStatus();
+}
@@ -0,0 +1,17 @@
+package com.ohgiraffers.comprehensive.product.domain.projection;
+
+import com.ohgiraffers.comprehensive.product.domain.type.PriceRange;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* facet 집계 한 행 : (카테고리, 가격대, 재고 여부, 가격 조건 일치 여부) 별 상품 수 */
+@Getter
+@RequiredArgsConstructor
+public class ProductFacetCount {
+
+    private final Long categoryCode;
+    private final PriceRange priceRange;
+    private final boolean inStock;
+    private final boolean inPriceFilter;
+    private final long count;
+}
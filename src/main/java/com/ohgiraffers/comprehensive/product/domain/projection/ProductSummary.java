@@ -0,0 +1,13 @@
+package com.ohgiraffers.comprehensive.product.domain.projection;
+
+/* 고객용 상품 목록에 필요한 컬럼만 조회 (entity 로딩, dirty checking 스냅샷 없음) */
+public interface ProductSummary {
+
+    Long getProductCode();
+
+    String getProductName();
+
+    Long getProductPrice();
+
+    String getProductImageUrl();
+}
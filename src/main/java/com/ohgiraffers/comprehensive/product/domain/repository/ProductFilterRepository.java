@@ -0,0 +1,100 @@
+package com.ohgiraffers.comprehensive.product.domain.repository;
+
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.projection.ProductFacetCount;
+import com.ohgiraffers.comprehensive.product.domain.type.PriceRange;
+import com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType;
+import com.ohgiraffers.comprehensive.product.dto.response.CustomerProductsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+/* 상품 목록 필터 조회 (Criteria)
+ * - 목록 : Specification 으로 조합한 조건 + 정렬, 응답에 필요한 컬럼만 select
+ * - facet : 카테고리 / 가격대 / 재고 여부 / 가격 조건 일치 여부로 GROUP BY 한 번. 전체 건수도 여기서 계산하므로 count 쿼리가 없다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ProductFilterRepository {
+
+    private final EntityManager entityManager;
+
+    public List<CustomerProductsResponse> findAll(final Specification<Product> specification, final Pageable pageable) {
+
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        final Root<Product> product = query.from(Product.class);
+
+        query.multiselect(
+                        product.get("productCode"),
+                        product.get("productName"),
+                        product.get("productPrice"),
+                        product.get("productImageUrl"))
+                .where(specification.toPredicate(product, query, cb))
+                .orderBy(toOrders(pageable.getSort(), product, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(tuple -> CustomerProductsResponse.of(
+                        tuple.get(0, Long.class),
+                        tuple.get(1, String.class),
+                        tuple.get(2, Long.class),
+                        tuple.get(3, String.class)))
+                .collect(Collectors.toList());
+    }
+
+    /* 결과 행 수는 최대 (카테고리 수 x 가격대 수 x 2 x 2) 이며 idx_product_facet 만 읽는다. (covering index) */
+    @SuppressWarnings("unchecked")
+    public List<ProductFacetCount> countFacets(final ProductStatusType status, final long minPrice, final long maxPrice) {
+
+        final String sql = "SELECT p.category_code, " + priceRangeCase() + ", p.product_stock > 0, " +
+                "p.product_price BETWEEN :minPrice AND :maxPrice, COUNT(*) " +
+                "FROM tbl_product p WHERE p.status = :status " +
+                "GROUP BY 1, 2, 3, 4";
+
+        final List<Object[]> rows = entityManager.createNativeQuery(sql)
+                .setParameter("status", status.name())
+                .setParameter("minPrice", minPrice)
+                .setParameter("maxPrice", maxPrice)
+                .getResultList();
+
+        final PriceRange[] priceRanges = PriceRange.values();
+
+        return rows.stream()
+                .map(row -> new ProductFacetCount(
+                        row[0] == null ? null : ((Number) row[0]).longValue(),
+                        priceRanges[((Number) row[1]).intValue()],
+                        ((Number) row[2]).intValue() == 1,
+                        ((Number) row[3]).intValue() == 1,
+                        ((Number) row[4]).longValue()))
+                .collect(Collectors.toList());
+    }
+
+    /* CASE WHEN price < 10000 THEN 0 WHEN ... ELSE 3 END : PriceRange 의 ordinal */
+    private static String priceRangeCase() {
+
+        final StringBuilder builder = new StringBuilder("CASE");
+        for(PriceRange priceRange : PriceRange.values()) {
+            if(priceRange.getMax() == null) {
+                builder.append(" ELSE ").append(priceRange.ordinal());
+            } else {
+                builder.append(" WHEN p.product_price < ").append(priceRange.getMax()).append(" THEN ").append(priceRange.ordinal());
+            }
+        }
+        return builder.append(" END").toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ohgiraffers.comprehensive.product.domain.repository;
+
+import com.ohgiraffers.comprehensive.product.dto.request.ProductImportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/* JPA 로 처리하기 어려운 대량 작업
+ * Product 는 IDENTITY 전략이라 Hibernate 가 insert 를 batch 로 묶지 않는다. (insert 마다 생성 된 키를 받아야 하기 때문)
+ * 키가 필요 없는 일괄 등록은 JDBC batch 로 처리하고, url 의 rewriteBatchedStatements=true 로 multi-row insert 가 된다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO tbl_product (product_name, product_price, product_description, category_code, " +
+            "product_image_url, product_stock, created_at, modified_at, status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'USABLE')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(final List<ProductImportRow> rows) {
+
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getProductName());
+            ps.setLong(2, row.getProductPrice());
+            ps.setString(3, row.getProductDescription());
+            ps.setLong(4, row.getCategoryCode());
+            ps.setString(5, row.getProductImageUrl());
+            ps.setLong(6, row.getProductStock());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+}
@@ -1,12 +1,20 @@
 package com.ohgiraffers.comprehensive.product.domain.repository;
 
 import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.projection.AdminProductSummary;
+import com.ohgiraffers.comprehensive.product.domain.projection.ProductSummary;
 import com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /* 연관 관계 매핑 시 연관 대상 entity의 pk별로 한 번씩 구문이 발생하는 N + 1 문제가 있다.
@@ -17,18 +25,55 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // <> 엔티티, 타입
 
     /* 1. 상품 목록 조회 : 페이징, 주문 불가 상품 제외 (고객) */
-    Page<Product> findByStatus(Pageable pageable, ProductStatusType productStatusType);
+    @Query(value = "SELECT p.productCode AS productCode, p.productName AS productName, " +
+            "p.productPrice AS productPrice, p.productImageUrl AS productImageUrl " +
+            "FROM Product p WHERE p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.status = :status")
+    Page<ProductSummary> findByStatus(Pageable pageable, @Param("status") ProductStatusType productStatusType);
+    // 응답에 필요한 컬럼만 select 하는 projection (entity 전체를 영속성 컨텍스트에 올리지 않는다.)
+
+    /* 1-1. 상품 목록 조회 : 커서 기반, 주문 불가 상품 제외 (고객) */
+    @Query("SELECT p.productCode AS productCode, p.productName AS productName, " +
+            "p.productPrice AS productPrice, p.productImageUrl AS productImageUrl " +
+            "FROM Product p WHERE p.status = :status AND p.productCode < :after")
+    Slice<ProductSummary> findByStatusAndProductCodeLessThan(
+            Pageable pageable, @Param("status") ProductStatusType productStatusType, @Param("after") Long productCode);
+    // Slice는 다음 페이지 존재 여부만 확인(size + 1 조회)하므로 count 쿼리가 발생하지 않는다.
 
     /* 2. 상품 목록 조회 : 페이징, 주문 불가 상품 포함 (관리자) */
-    @EntityGraph(attributePaths = {"category"})
-    Page<Product> findByStatusNot(Pageable pageable, ProductStatusType productStatusType);
+    @Query(value = "SELECT p.productCode AS productCode, p.productName AS productName, p.productPrice AS productPrice, " +
+            "c.categoryName AS categoryName, p.productStock AS productStock, p.status AS status " +
+            "FROM Product p LEFT JOIN p.category c WHERE p.status <> :status",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.status <> :status")
+    Page<AdminProductSummary> findByStatusNot(Pageable pageable, @Param("status") ProductStatusType productStatusType);
+
+    /* 2-1. 상품 목록 조회 : 커서 기반, 주문 불가 상품 포함 (관리자) */
+    @Query("SELECT p.productCode AS productCode, p.productName AS productName, p.productPrice AS productPrice, " +
+            "c.categoryName AS categoryName, p.productStock AS productStock, p.status AS status " +
+            "FROM Product p LEFT JOIN p.category c WHERE p.status <> :status AND p.productCode < :after")
+    Slice<AdminProductSummary> findByStatusNotAndProductCodeLessThan(
+            Pageable pageable, @Param("status") ProductStatusType productStatusType, @Param("after") Long productCode);
 
     /* 3. 상품 목록 조회 : 카테고리 기준, 페이징, 주문 불가 상품 제외(고객) */
-    Page<Product> findByCategoryCategoryCodeAndStatus(Pageable pageable, Long categoryCode, ProductStatusType productStatusType);
+    @Query(value = "SELECT p.productCode AS productCode, p.productName AS productName, " +
+            "p.productPrice AS productPrice, p.productImageUrl AS productImageUrl " +
+            "FROM Product p WHERE p.category.categoryCode = :categoryCode AND p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category.categoryCode = :categoryCode AND p.status = :status")
+    Page<ProductSummary> findByCategoryCategoryCodeAndStatus(
+            Pageable pageable, @Param("categoryCode") Long categoryCode, @Param("status") ProductStatusType productStatusType);
     // Product 안에 있는 필드명 Category의 CategoryCode
 
-    /* 4. 상품 목록 조회 : 상품명 검색 기준, 페이징, 주문 불가 상품 제외 (고객) */
-    Page<Product> findByProductNameContainsAndStatus(Pageable pageable, String productName, ProductStatusType productStatusType);
+    /* 3-1. 상품 목록 조회 : 카테고리 기준, 커서 기반, 주문 불가 상품 제외(고객) */
+    @Query("SELECT p.productCode AS productCode, p.productName AS productName, " +
+            "p.productPrice AS productPrice, p.productImageUrl AS productImageUrl " +
+            "FROM Product p WHERE p.category.categoryCode = :categoryCode AND p.status = :status AND p.productCode < :after")
+    Slice<ProductSummary> findByCategoryCategoryCodeAndStatusAndProductCodeLessThan(
+            Pageable pageable, @Param("categoryCode") Long categoryCode, @Param("status") ProductStatusType productStatusType,
+            @Param("after") Long productCode);
+
+    /* 4. 상품 목록 조회 : 상품명 검색 기준, 페이징, 주문 불가 상품 제외 (고객) => NgramProductIndex 에서 처리 */
+    List<Product> findByStatus(ProductStatusType productStatusType);
+    // 검색 인덱스 생성 시 주문 가능 상품 전체 조회
 
     /* 5. 상품 상세 조회 : productCode로 상품 1개 조회, 주문 불가 상품 제외(고객) */
     Optional<Product> findByProductCodeAndStatus(Long productCode, ProductStatusType productStatusType);
@@ -43,4 +88,13 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     /* 8. 상품 수정(관리자) */
 
     /* 9. 상품 삭제(관리자) */
+
+    /* 10. 재고 차감 : 재고가 충분할 때만 차감하는 조건부 UPDATE (행 잠금은 이 구문 동안만 유지된다.)
+     * 읽고 비교한 뒤 dirty checking 으로 쓰면 동시 주문이 같은 재고를 보고 모두 통과할 수 있다.
+     * 반환 값이 0 이면 상품이 없거나 재고가 부족한 것이다.
+     * */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.productStock = p.productStock - :amount, p.modifiedAt = :now " +
+            "WHERE p.productCode = :productCode AND p.productStock >= :amount")
+    int decreaseStock(@Param("productCode") Long productCode, @Param("amount") Long amount, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,78 @@
+package com.ohgiraffers.comprehensive.product.domain.repository;
+
+import com.ohgiraffers.comprehensive.product.dto.response.TopSellerResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/* 판매 집계 (tbl_product_sales, tbl_daily_sales)
+ * 주문 저장과 같은 트랜잭션에서 호출하며 판매액은 그 시점의 상품 가격으로 계산한다.
+ * 주문 테이블을 GROUP BY 하지 않고 상품 / 일자별 한 행만 증가시킨다. (INSERT ... ON DUPLICATE KEY UPDATE)
+ * */
+@Repository
+@RequiredArgsConstructor
+public class SalesJdbcRepository {
+
+    private static final String ADD_PRODUCT_SALES =
+            "INSERT INTO tbl_product_sales (product_code, sales_units, sales_revenue) " +
+            "SELECT p.product_code, ?, p.product_price * ? FROM tbl_product p WHERE p.product_code = ? " +
+            "ON DUPLICATE KEY UPDATE sales_units = sales_units + VALUES(sales_units), " +
+            "sales_revenue = sales_revenue + VALUES(sales_revenue)";
+
+    private static final String ADD_DAILY_SALES =
+            "INSERT INTO tbl_daily_sales (sales_date, product_code, sales_units, sales_revenue) " +
+            "SELECT ?, p.product_code, ?, p.product_price * ? FROM tbl_product p WHERE p.product_code = ? " +
+            "ON DUPLICATE KEY UPDATE sales_units = sales_units + VALUES(sales_units), " +
+            "sales_revenue = sales_revenue + VALUES(sales_revenue)";
+
+    private static final String TOP_SELLERS =
+            "SELECT p.product_code, p.product_name, p.product_price, p.product_image_url, s.sales_units, s.sales_revenue " +
+            "FROM tbl_product_sales s JOIN tbl_product p ON p.product_code = s.product_code " +
+            "WHERE p.status = 'USABLE' ORDER BY s.sales_units DESC, s.product_code DESC LIMIT ?";
+
+    private static final String TOP_SELLERS_SINCE =
+            "SELECT p.product_code, p.product_name, p.product_price, p.product_image_url, s.sales_units, s.sales_revenue " +
+            "FROM (SELECT product_code, SUM(sales_units) AS sales_units, SUM(sales_revenue) AS sales_revenue " +
+            "      FROM tbl_daily_sales WHERE sales_date >= ? GROUP BY product_code) s " +
+            "JOIN tbl_product p ON p.product_code = s.product_code " +
+            "WHERE p.status = 'USABLE' ORDER BY s.sales_units DESC, s.product_code DESC LIMIT ?";
+
+    private static final RowMapper<TopSellerResponse> TOP_SELLER_MAPPER = (rs, rowNum) -> TopSellerResponse.of(
+            rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getString(4), rs.getLong(5), rs.getLong(6));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* 상품별 판매 수량(productCode -> units)을 productCode 순서로 반영 */
+    public void addSales(final LocalDate salesDate, final SortedMap<Long, Long> units) {
+
+        final List<Map.Entry<Long, Long>> entries = new ArrayList<>(units.entrySet());
+
+        jdbcTemplate.batchUpdate(ADD_PRODUCT_SALES, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getValue());
+            ps.setLong(3, entry.getKey());
+        });
+        jdbcTemplate.batchUpdate(ADD_DAILY_SALES, entries, entries.size(), (ps, entry) -> {
+            ps.setDate(1, Date.valueOf(salesDate));
+            ps.setLong(2, entry.getValue());
+            ps.setLong(3, entry.getValue());
+            ps.setLong(4, entry.getKey());
+        });
+    }
+
+    public List<TopSellerResponse> findTopSellers(final int limit) {
+        return jdbcTemplate.query(TOP_SELLERS, TOP_SELLER_MAPPER, limit);
+    }
+
+    public List<TopSellerResponse> findTopSellersSince(final LocalDate since, final int limit) {
+        return jdbcTemplate.query(TOP_SELLERS_SINCE, TOP_SELLER_MAPPER, Date.valueOf(since), limit);
+    }
+}
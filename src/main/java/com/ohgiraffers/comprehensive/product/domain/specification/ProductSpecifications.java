@@ -0,0 +1,46 @@
+package com.ohgiraffers.comprehensive.product.domain.specification;
+
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType;
+import com.ohgiraffers.comprehensive.product.dto.request.ProductFilterRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+/* 상품 목록 필터 조건
+ * 조건 순서(status -> category -> price -> stock)는 tbl_product 복합 인덱스의 컬럼 순서와 같다.
+ * */
+public class ProductSpecifications {
+
+    public static Specification<Product> statusEq(final ProductStatusType status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Product> categoryEq(final Long categoryCode) {
+        // category 를 join 하지 않고 FK 컬럼(category_code)으로 비교한다.
+        return (root, query, cb) -> cb.equal(root.get("category").get("categoryCode"), categoryCode);
+    }
+
+    public static Specification<Product> priceGoe(final Long minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("productPrice"), minPrice);
+    }
+
+    public static Specification<Product> priceLoe(final Long maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("productPrice"), maxPrice);
+    }
+
+    public static Specification<Product> inStock() {
+        return (root, query, cb) -> cb.greaterThan(root.get("productStock"), 0L);
+    }
+
+    /* 값이 있는 조건만 AND 로 조합 */
+    public static Specification<Product> of(final ProductStatusType status, final ProductFilterRequest filter) {
+
+        Specification<Product> specification = Specification.where(statusEq(status));
+
+        if(filter.getCategoryCode() != null) specification = specification.and(categoryEq(filter.getCategoryCode()));
+        if(filter.getMinPrice() != null) specification = specification.and(priceGoe(filter.getMinPrice()));
+        if(filter.getMaxPrice() != null) specification = specification.and(priceLoe(filter.getMaxPrice()));
+        if(filter.isInStockOnly()) specification = specification.and(inStock());
+
+        return specification;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ohgiraffers.comprehensive.product.domain.type;
+
+/* 가격대 facet 구간 [min, max) */
+public enum PriceRange {
+
+    UNDER_10000("1만원 미만", 0L, 10000L),
+    FROM_10000_TO_30000("1만원 ~ 3만원", 10000L, 30000L),
+    FROM_30000_TO_50000("3만원 ~ 5만원", 30000L, 50000L),
+    OVER_50000("5만원 이상", 50000L, null);
+
+    private final String label;
+    private final Long min;
+    private final Long max;
+
+    PriceRange(String label, Long min, Long max) {
+        this.label = label;
+        this.min = min;
+        this.max = max;
+    }
+
+    public String getLabel() { return label; }
+
+    public Long getMin() { return min; }
+
+    public Long getMax() { return max; }
+}
@@ -0,0 +1,7 @@
+package com.ohgiraffers.comprehensive.product.domain.type;
+
+public enum ProductImportFormat {
+
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,19 @@
+package com.ohgiraffers.comprehensive.product.domain.type;
+
+import org.springframework.data.domain.Sort;
+
+/* 상품 목록 정렬 기준 (?sort=PRICE_ASC)
+ * 같은 가격이면 productCode 내림차순으로 순서를 고정한다. 각 정렬은 tbl_product 의 복합 인덱스 순서와 같다.
+ * */
+public enum ProductSortType {
+
+    NEWEST(Sort.by("productCode").descending()),
+    PRICE_ASC(Sort.by("productPrice").ascending().and(Sort.by("productCode").descending())),
+    PRICE_DESC(Sort.by("productPrice").descending().and(Sort.by("productCode").descending()));
+
+    private final Sort sort;
+
+    ProductSortType(Sort sort) { this.sort = sort; }
+
+    public Sort getSort() { return sort; }
+}
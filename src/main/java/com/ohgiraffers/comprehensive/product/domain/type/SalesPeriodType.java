@@ -0,0 +1,15 @@
+package com.ohgiraffers.comprehensive.product.domain.type;
+
+/* 판매 순위 집계 기간 (?period=WEEK) */
+public enum SalesPeriodType {
+
+    ALL(null),   // 누적 (tbl_product_sales)
+    WEEK(7),     // 최근 7일 (tbl_daily_sales)
+    DAY(1);      // 오늘
+
+    private final Integer days;
+
+    SalesPeriodType(Integer days) { this.days = days; }
+
+    public Integer getDays() { return days; }
+}
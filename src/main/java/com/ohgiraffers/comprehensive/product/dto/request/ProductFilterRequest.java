@@ -0,0 +1,41 @@
+package com.ohgiraffers.comprehensive.product.dto.request;
+
+import com.ohgiraffers.comprehensive.product.domain.type.ProductSortType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.Min;
+
+import static com.ohgiraffers.comprehensive.product.domain.type.ProductSortType.NEWEST;
+
+/* 상품 목록 필터 (query string) : 값이 없는 조건은 적용하지 않는다. */
+@RequiredArgsConstructor
+@Getter
+public class ProductFilterRequest {
+
+    @Min(value = 1)
+    private final Long categoryCode;
+    @Min(value = 0)
+    private final Long minPrice;
+    @Min(value = 0)
+    private final Long maxPrice;
+    private final Boolean inStock;
+    private final ProductSortType sort;
+
+    public boolean isInStockOnly() {
+        return Boolean.TRUE.equals(inStock);
+    }
+
+    public ProductSortType getSortOrDefault() {
+        return sort == null ? NEWEST : sort;
+    }
+
+    /* 가격 조건은 facet 집계에서 항상 범위로 사용하므로 비어 있으면 전체 범위로 채운다. */
+    public long getMinPriceOrDefault() {
+        return minPrice == null ? 0L : minPrice;
+    }
+
+    public long getMaxPriceOrDefault() {
+        return maxPrice == null ? Long.MAX_VALUE : maxPrice;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ohgiraffers.comprehensive.product.dto.request;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+/* 상품 일괄 등록 한 행 (CSV 한 줄 또는 NDJSON 한 줄) */
+@RequiredArgsConstructor
+@Getter
+public class ProductImportRow {
+
+    @NotBlank
+    private final String productName;
+    @NotNull @Min(value = 1)
+    private final Long productPrice;
+    @NotBlank
+    private final String productDescription;
+    @NotNull @Min(value = 1)
+    private final Long categoryCode;
+    @NotNull @Min(value = 1)
+    private final Long productStock;
+    @NotBlank
+    private final String productImageUrl; // 일괄 등록은 이미 업로드 된 이미지 url 을 사용한다.
+
+}
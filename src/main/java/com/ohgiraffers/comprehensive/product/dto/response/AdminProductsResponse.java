@@ -1,6 +1,6 @@
 package com.ohgiraffers.comprehensive.product.dto.response;
 
-import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.projection.AdminProductSummary;
 import com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -18,12 +18,12 @@ public class AdminProductsResponse {
     private final Long productStock;
     private final ProductStatusType status;
 
-    public static AdminProductsResponse from(final Product product) {
+    public static AdminProductsResponse from(final AdminProductSummary product) {
         return new AdminProductsResponse(
                 product.getProductCode(),
                 product.getProductName(),
                 product.getProductPrice(),
-                product.getCategory().getCategoryName(),
+                product.getCategoryName(),
                 product.getProductStock(),
                 product.getStatus()
         );
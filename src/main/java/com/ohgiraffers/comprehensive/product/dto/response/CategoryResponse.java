@@ -0,0 +1,22 @@
+package com.ohgiraffers.comprehensive.product.dto.response;
+
+import com.ohgiraffers.comprehensive.product.domain.Category;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class CategoryResponse {
+
+    private final Long categoryCode;
+    private final String categoryName;
+
+    public static CategoryResponse from(final Category category) {
+        return new CategoryResponse(
+                category.getCategoryCode(),
+                category.getCategoryName()
+        );
+    }
+}
@@ -1,8 +1,12 @@
 package com.ohgiraffers.comprehensive.product.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.ohgiraffers.comprehensive.product.domain.Product;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
 import static lombok.AccessLevel.PRIVATE;
 
 @Getter
@@ -15,6 +19,8 @@ public class CustomerProductResponse {
         private final String productDescription;
         private final String productImageUrl;
         private final Long productStock;
+        @JsonIgnore
+        private final LocalDateTime modifiedAt; // 조건부 GET 버전용 (응답 본문에는 포함하지 않는다.)
 
         public static CustomerProductResponse from(final Product product) {
             return new CustomerProductResponse(
@@ -23,7 +29,8 @@ public class CustomerProductResponse {
                     product.getProductPrice(),
                     product.getProductDescription(),
                     product.getProductImageUrl(),
-                    product.getProductStock()
+                    product.getProductStock(),
+                    product.getModifiedAt()
             );
         }
     }
@@ -1,6 +1,7 @@
 package com.ohgiraffers.comprehensive.product.dto.response;
 
 import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.projection.ProductSummary;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import static lombok.AccessLevel.PRIVATE;
@@ -22,4 +23,18 @@ public class CustomerProductsResponse {
                 product.getProductImageUrl()
         );
     }
+
+    public static CustomerProductsResponse from(final ProductSummary product) {
+        return new CustomerProductsResponse(
+                product.getProductCode(),
+                product.getProductName(),
+                product.getProductPrice(),
+                product.getProductImageUrl()
+        );
+    }
+
+    public static CustomerProductsResponse of(
+            final Long productCode, final String productName, final Long productPrice, final String productImageUrl) {
+        return new CustomerProductsResponse(productCode, productName, productPrice, productImageUrl);
+    }
 }
@@ -0,0 +1,19 @@
+package com.ohgiraffers.comprehensive.product.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class FacetCountResponse {
+
+    private final String value;   // 필터에 그대로 넘길 값 (categoryCode, PriceRange 이름)
+    private final String label;
+    private final long count;
+
+    public static FacetCountResponse of(final String value, final String label, final long count) {
+        return new FacetCountResponse(value, label, count);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ohgiraffers.comprehensive.product.dto.response;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class ProductCacheStatsResponse {
+
+    private final String cacheName;
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;
+
+    public static ProductCacheStatsResponse of(final String cacheName, final Cache<?, ?> cache) {
+        final CacheStats stats = cache.stats();
+        return new ProductCacheStatsResponse(
+                cacheName,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package com.ohgiraffers.comprehensive.product.dto.response;
+
+import com.ohgiraffers.comprehensive.product.domain.projection.ProductFacetCount;
+import com.ohgiraffers.comprehensive.product.domain.type.PriceRange;
+import com.ohgiraffers.comprehensive.product.dto.request.ProductFilterRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/* 조건별 상품 수
+ * 각 facet 은 자기 자신을 제외한 나머지 필터를 적용한 건수이다. (카테고리를 바꿔 보면 몇 개가 나오는지)
+ * 집계 행(ProductFacetCount)을 한 번 조회한 뒤 메모리에서 나눠 계산한다.
+ * */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class ProductFacetsResponse {
+
+    private final List<FacetCountResponse> categories;
+    private final List<FacetCountResponse> priceRanges;
+    private final long inStockCount;
+
+    public static ProductFacetsResponse of(
+            final List<ProductFacetCount> rows, final ProductFilterRequest filter, final List<CategoryResponse> categoryList) {
+
+        final Predicate<ProductFacetCount> category
+                = row -> filter.getCategoryCode() == null || filter.getCategoryCode().equals(row.getCategoryCode());
+        final Predicate<ProductFacetCount> price = ProductFacetCount::isInPriceFilter;
+        final Predicate<ProductFacetCount> stock = row -> !filter.isInStockOnly() || row.isInStock();
+
+        final Map<Long, Long> categoryCounts = rows.stream()
+                .filter(price.and(stock))
+                .filter(row -> row.getCategoryCode() != null)
+                .collect(Collectors.groupingBy(ProductFacetCount::getCategoryCode, Collectors.summingLong(ProductFacetCount::getCount)));
+
+        final Map<PriceRange, Long> priceRangeCounts = rows.stream()
+                .filter(category.and(stock))
+                .collect(Collectors.groupingBy(ProductFacetCount::getPriceRange,
+                        () -> new EnumMap<>(PriceRange.class), Collectors.summingLong(ProductFacetCount::getCount)));
+
+        final long inStockCount = count(rows, category.and(price).and(ProductFacetCount::isInStock));
+
+        return new ProductFacetsResponse(
+                categoryList.stream()
+                        .filter(categoryResponse -> categoryCounts.containsKey(categoryResponse.getCategoryCode()))
+                        .map(categoryResponse -> FacetCountResponse.of(
+                                String.valueOf(categoryResponse.getCategoryCode()),
+                                categoryResponse.getCategoryName(),
+                                categoryCounts.get(categoryResponse.getCategoryCode())))
+                        .collect(Collectors.toList()),
+                Arrays.stream(PriceRange.values())
+                        .map(priceRange -> FacetCountResponse.of(
+                                priceRange.name(), priceRange.getLabel(), priceRangeCounts.getOrDefault(priceRange, 0L)))
+                        .collect(Collectors.toList()),
+                inStockCount
+        );
+    }
+
+    /* 모든 필터를 적용한 건수 = 목록의 전체 건수 */
+    public static long countMatches(final List<ProductFacetCount> rows, final ProductFilterRequest filter) {
+
+        return count(rows, row -> (filter.getCategoryCode() == null || filter.getCategoryCode().equals(row.getCategoryCode()))
+                && row.isInPriceFilter()
+                && (!filter.isInStockOnly() || row.isInStock()));
+    }
+
+    private static long count(final List<ProductFacetCount> rows, final Predicate<ProductFacetCount> predicate) {
+        return rows.stream().filter(predicate).mapToLong(ProductFacetCount::getCount).sum();
+    }
+}
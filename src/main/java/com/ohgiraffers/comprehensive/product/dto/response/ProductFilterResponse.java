@@ -0,0 +1,29 @@
+package com.ohgiraffers.comprehensive.product.dto.response;
+
+import com.ohgiraffers.comprehensive.common.paging.Pagenation;
+import com.ohgiraffers.comprehensive.common.paging.PagingButtonInfo;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/* 필터 조회 응답 : PagingResponse + facet 건수 */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class ProductFilterResponse {
+
+    private final List<CustomerProductsResponse> data;
+    private final PagingButtonInfo pageInfo;
+    private final ProductFacetsResponse facets;
+
+    public static ProductFilterResponse of(final Page<CustomerProductsResponse> products, final ProductFacetsResponse facets) {
+        return new ProductFilterResponse(
+                products.getContent(),
+                Pagenation.getPagingButtonInfo(products),
+                facets
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.ohgiraffers.comprehensive.product.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class ProductImportError {
+
+    private final long rowNumber;
+    private final String message;
+}
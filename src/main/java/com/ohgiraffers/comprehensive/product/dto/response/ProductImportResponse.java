@@ -0,0 +1,23 @@
+package com.ohgiraffers.comprehensive.product.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class ProductImportResponse {
+
+    private final long totalRows;
+    private final long importedRows;
+    private final long failedRows;
+    private final List<ProductImportError> errors; // 메모리 사용을 제한하기 위해 앞쪽 일부만 담는다.
+
+    public static ProductImportResponse of(
+            final long totalRows, final long importedRows, final long failedRows, final List<ProductImportError> errors) {
+        return new ProductImportResponse(totalRows, importedRows, failedRows, errors);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ohgiraffers.comprehensive.product.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class TopSellerResponse {
+
+    private final Long productCode;
+    private final String productName;
+    private final Long productPrice;
+    private final String productImageUrl;
+    private final Long salesUnits;
+    private final Long salesRevenue;
+
+    public static TopSellerResponse of(
+            final Long productCode, final String productName, final Long productPrice, final String productImageUrl,
+            final Long salesUnits, final Long salesRevenue) {
+        return new TopSellerResponse(productCode, productName, productPrice, productImageUrl, salesUnits, salesRevenue);
+    }
+}
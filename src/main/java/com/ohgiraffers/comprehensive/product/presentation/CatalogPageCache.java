@@ -0,0 +1,52 @@
+package com.ohgiraffers.comprehensive.product.presentation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ohgiraffers.comprehensive.common.cache.SerializedBody;
+import com.ohgiraffers.comprehensive.common.cache.VersionStamp;
+import com.ohgiraffers.comprehensive.common.exception.ServerInternalException;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductCacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.FAIL_TO_SERIALIZE_RESPONSE;
+
+/* 상품 목록 페이지 응답 본문(JSON byte) 캐시
+ * key 에 카탈로그 버전이 들어가므로 상품이 변경되면 이전 버전 항목은 더 이상 조회되지 않고 크기 제한으로 밀려난다.
+ * 새 버전의 페이지는 처음 요청 될 때 DB 에서 읽어 만든다. (같은 key 의 동시 요청은 한 번만 조회 / 직렬화)
+ * */
+@Component
+@RequiredArgsConstructor
+public class CatalogPageCache {
+
+    public static final String CATALOG_PAGES = "catalogPages";
+    private static final long MAX_BYTES = 16 * 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, SerializedBody> pages = Caffeine.newBuilder()
+            .maximumWeight(MAX_BYTES)
+            .weigher((String key, SerializedBody body) -> body.getWeight())
+            .recordStats()
+            .build();
+
+    public SerializedBody get(final VersionStamp catalogStamp, final String resource, final Supplier<Object> response) {
+
+        return pages.get(resource + "@" + catalogStamp.getVersion(), key -> serialize(response.get()));
+    }
+
+    public ProductCacheStatsResponse getStats() {
+        return ProductCacheStatsResponse.of(CATALOG_PAGES, pages);
+    }
+
+    private SerializedBody serialize(final Object response) {
+        try {
+            return SerializedBody.of(objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new ServerInternalException(FAIL_TO_SERIALIZE_RESPONSE);
+        }
+    }
+}
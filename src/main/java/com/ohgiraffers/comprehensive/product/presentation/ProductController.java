@@ -1,23 +1,44 @@
 package com.ohgiraffers.comprehensive.product.presentation;
 
+import com.ohgiraffers.comprehensive.common.cache.SerializedBody;
+import com.ohgiraffers.comprehensive.common.cache.VersionStamp;
+import com.ohgiraffers.comprehensive.common.paging.CursorPagination;
+import com.ohgiraffers.comprehensive.common.paging.CursorPagingResponse;
 import com.ohgiraffers.comprehensive.common.paging.Pagenation;
 import com.ohgiraffers.comprehensive.common.paging.PagingButtonInfo;
 import com.ohgiraffers.comprehensive.common.paging.PagingResponse;
+import com.ohgiraffers.comprehensive.product.domain.type.ProductImportFormat;
+import com.ohgiraffers.comprehensive.product.domain.type.SalesPeriodType;
 import com.ohgiraffers.comprehensive.product.dto.request.ProductCreateRequest;
+import com.ohgiraffers.comprehensive.product.dto.request.ProductFilterRequest;
 import com.ohgiraffers.comprehensive.product.dto.request.ProductUpdateRequest;
 import com.ohgiraffers.comprehensive.product.dto.response.AdminProductResponse;
 import com.ohgiraffers.comprehensive.product.dto.response.AdminProductsResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.CategoryResponse;
 import com.ohgiraffers.comprehensive.product.dto.response.CustomerProductResponse;
 import com.ohgiraffers.comprehensive.product.dto.response.CustomerProductsResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductCacheStatsResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductFilterResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductImportResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.TopSellerResponse;
+import com.ohgiraffers.comprehensive.product.service.ProductImportService;
 import com.ohgiraffers.comprehensive.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,16 +46,42 @@ import java.net.URI;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final CatalogPageCache catalogPageCache;
 
     /* 1. 상품 목록 조회 - 페이징, 주문 불가 상품 제외 (고객) */
     @GetMapping("/products")
-    public ResponseEntity<PagingResponse> getCustomerProducts(@RequestParam(defaultValue = "1") final Integer page) {
+    public ResponseEntity<byte[]> getCustomerProducts(
+            @RequestParam(defaultValue = "1") final Integer page, final WebRequest webRequest) {
+
+        /* 카탈로그 버전이 같으면 조회, 직렬화 없이 304 Not Modified (ETag 는 응답 인코딩별로 다르다.) */
+        final String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        final VersionStamp catalogStamp = productService.getCatalogStamp();
+        final String eTag = SerializedBody.getETag(catalogStamp.getETag("products-" + page), acceptEncoding);
+        if(webRequest.checkNotModified(eTag, catalogStamp.getLastModified())) {
+            return null;
+        }
+
+        /* 같은 버전의 페이지는 직렬화 해 둔 byte 를 그대로 응답한다. */
+        final SerializedBody body = catalogPageCache.get(catalogStamp, "products-" + page, () -> {
+            final Page<CustomerProductsResponse> products = productService.getCustomerProducts(page);
+            final PagingButtonInfo pagingButtonInfo = Pagenation.getPagingButtonInfo(products);
+            return PagingResponse.of(products.getContent(), pagingButtonInfo);
+        });
+
+        return body.toResponse(acceptEncoding);
+    }
 
-        final Page<CustomerProductsResponse> products = productService.getCustomerProducts(page);
-        final PagingButtonInfo pagingButtonInfo = Pagenation.getPagingButtonInfo(products);
-        final PagingResponse pagingResponse = PagingResponse.of(products.getContent(), pagingButtonInfo);
+    /* 1-1. 상품 목록 조회 - 커서 기반, 주문 불가 상품 제외 (고객) */
+    @GetMapping(value = "/products", params = "after")
+    public ResponseEntity<CursorPagingResponse> getCustomerProductsAfter(@RequestParam(required = false) final String after) {
+        // after 파라미터가 있으면 page 번호 대신 커서 기반으로 조회한다. (?after= 는 첫 페이지)
 
-        return ResponseEntity.ok(pagingResponse);
+        final Slice<CustomerProductsResponse> products = productService.getCustomerProductsAfter(CursorPagination.decode(after));
+        final String nextCursor = CursorPagination.getNextCursor(products, CustomerProductsResponse::getProductCode);
+        final CursorPagingResponse cursorPagingResponse = CursorPagingResponse.of(products.getContent(), nextCursor);
+
+        return ResponseEntity.ok(cursorPagingResponse);
     }
 
     /* 2. 상품 목록 조회 - 페이징, 주문 불가 상품 제외 (관리자) */
@@ -48,17 +95,51 @@ public class ProductController {
         return ResponseEntity.ok(pagingResponse);
     }
 
+    /* 2-1. 상품 목록 조회 - 커서 기반, 주문 불가 상품 포함 (관리자) */
+    @GetMapping(value = "/products-management", params = "after")
+    public ResponseEntity<CursorPagingResponse> getAdminProductsAfter(@RequestParam(required = false) final String after) {
+
+        final Slice<AdminProductsResponse> products = productService.getAdminProductsAfter(CursorPagination.decode(after));
+        final String nextCursor = CursorPagination.getNextCursor(products, AdminProductsResponse::getProductCode);
+        final CursorPagingResponse cursorPagingResponse = CursorPagingResponse.of(products.getContent(), nextCursor);
+
+        return ResponseEntity.ok(cursorPagingResponse);
+    }
+
     /* 3. 상품 목록 조회 : 카테고리 기준, 페이징, 주문 불가 상품 제외(고객) */
     @GetMapping("/products/categories/{categoryCode}")
-    public ResponseEntity<PagingResponse> getCustomerProductsByCategory(
-            @RequestParam(defaultValue = "1") final Integer page, @PathVariable final Long categoryCode) {
+    public ResponseEntity<byte[]> getCustomerProductsByCategory(
+            @RequestParam(defaultValue = "1") final Integer page, @PathVariable final Long categoryCode, final WebRequest webRequest) {
         // {categoryCode} 가 Path로 들어오고 있으니 @PathVariable을 이용한다.
 
-        final Page<CustomerProductsResponse> products = productService.getCustomerProductsByCategory(page, categoryCode);
-        final PagingButtonInfo pagingButtonInfo = Pagenation.getPagingButtonInfo(products);
-        final PagingResponse pagingResponse = PagingResponse.of(products.getContent(), pagingButtonInfo);
+        final String resource = "categories-" + categoryCode + "-products-" + page;
+        final String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        final VersionStamp catalogStamp = productService.getCatalogStamp();
+        final String eTag = SerializedBody.getETag(catalogStamp.getETag(resource), acceptEncoding);
+        if(webRequest.checkNotModified(eTag, catalogStamp.getLastModified())) {
+            return null;
+        }
+
+        final SerializedBody body = catalogPageCache.get(catalogStamp, resource, () -> {
+            final Page<CustomerProductsResponse> products = productService.getCustomerProductsByCategory(page, categoryCode);
+            final PagingButtonInfo pagingButtonInfo = Pagenation.getPagingButtonInfo(products);
+            return PagingResponse.of(products.getContent(), pagingButtonInfo);
+        });
+
+        return body.toResponse(acceptEncoding);
+    }
 
-        return ResponseEntity.ok(pagingResponse);
+    /* 3-1. 상품 목록 조회 : 카테고리 기준, 커서 기반, 주문 불가 상품 제외(고객) */
+    @GetMapping(value = "/products/categories/{categoryCode}", params = "after")
+    public ResponseEntity<CursorPagingResponse> getCustomerProductsByCategoryAfter(
+            @RequestParam(required = false) final String after, @PathVariable final Long categoryCode) {
+
+        final Slice<CustomerProductsResponse> products
+                = productService.getCustomerProductsByCategoryAfter(CursorPagination.decode(after), categoryCode);
+        final String nextCursor = CursorPagination.getNextCursor(products, CustomerProductsResponse::getProductCode);
+        final CursorPagingResponse cursorPagingResponse = CursorPagingResponse.of(products.getContent(), nextCursor);
+
+        return ResponseEntity.ok(cursorPagingResponse);
     }
 
     /* 4. 상품 목록 조회 : 상품명 검색 기준, 페이징, 주문 불가 상품 제외 (고객) */
@@ -74,12 +155,66 @@ public class ProductController {
         return ResponseEntity.ok(pagingResponse);
     }
 
+    /* 4-1. 상품 목록 조회 : 초성/자모 검색 기준, 페이징, 주문 불가 상품 제외 (고객) */
+    @GetMapping("/products/search/jamo")
+    public ResponseEntity<PagingResponse> getCustomerProductsByJamo(
+            @RequestParam(defaultValue = "1") final Integer page, @RequestParam final String productName) {
+        // "ㄱㅊ"(초성), "김ㅊ"(조합 중인 글자) 형태의 검색어를 처리한다.
+
+        final Page<CustomerProductsResponse> products = productService.getCustomerProductsByJamo(page, productName);
+        final PagingButtonInfo pagingButtonInfo = Pagenation.getPagingButtonInfo(products);
+        final PagingResponse pagingResponse = PagingResponse.of(products.getContent(), pagingButtonInfo);
+
+        return ResponseEntity.ok(pagingResponse);
+    }
+
+    /* 4-2. 상품명 자동 완성 (고객) */
+    @GetMapping("/products/suggest")
+    public ResponseEntity<List<String>> getProductNameSuggestions(
+            @RequestParam final String q, @RequestParam(defaultValue = "10") final Integer size) {
+        // 검색창 입력마다 호출되므로 count / LIKE 쿼리 없이 메모리 trie 에서 응답한다.
+
+        final List<String> suggestions = productService.getProductNameSuggestions(q, size);
+
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /* 4-3. 상품 목록 조회 : 카테고리 / 가격 / 재고 필터 + 정렬, 조건별 상품 수 (고객) */
+    @GetMapping("/products/filter")
+    public ResponseEntity<ProductFilterResponse> getCustomerProductsByFilter(
+            @RequestParam(defaultValue = "1") final Integer page, @Valid final ProductFilterRequest filter) {
+        // ?categoryCode=1&minPrice=10000&maxPrice=30000&inStock=true&sort=PRICE_ASC (모든 조건은 생략 가능)
+
+        final ProductFilterResponse filterResponse = productService.getCustomerProductsByFilter(page, filter);
+
+        return ResponseEntity.ok(filterResponse);
+    }
+
+    /* 4-4. 판매 순위 조회 : 누적 / 최근 7일 / 오늘 (고객) */
+    @GetMapping("/products/top-sellers")
+    public ResponseEntity<List<TopSellerResponse>> getTopSellers(
+            @RequestParam(defaultValue = "ALL") final SalesPeriodType period,
+            @RequestParam(defaultValue = "10") final Integer size) {
+        // 주문 테이블을 집계하지 않고 판매 집계 테이블에서 주기적으로 읽어 둔 순위를 응답한다.
+
+        final List<TopSellerResponse> topSellers = productService.getTopSellers(period, size);
+
+        return ResponseEntity.ok(topSellers);
+    }
+
     /* 5. 상품 상세 조회 : productCode로 상품 1개 조회, 주문 불가 상품 제외(고객) */
     @GetMapping("/products/{productCode}")
-    public ResponseEntity<CustomerProductResponse> getCustomerProduct(@PathVariable final Long productCode) {
+    public ResponseEntity<CustomerProductResponse> getCustomerProduct(@PathVariable final Long productCode, final WebRequest webRequest) {
 
         final CustomerProductResponse customerProductResponse = productService.getCustomerProduct(productCode);
 
+        /* 버전은 응답 본문과 같은 (캐시 된) 객체에서 만든다. 재고 차감은 수정 시각을 바꾸지 않으므로 재고도 ETag 에 포함한다. */
+        final VersionStamp productStamp = VersionStamp.from(customerProductResponse.getModifiedAt());
+        final String resource = "product-" + productCode + "-" + customerProductResponse.getProductStock();
+        if(webRequest.checkNotModified(productStamp.getETag(resource), productStamp.getLastModified())) {
+            return null;
+        }
+
         return ResponseEntity.ok(customerProductResponse);
     }
 
@@ -125,4 +260,54 @@ public class ProductController {
 
         return ResponseEntity.noContent().build();
     }
+
+    /* 10. 상품 조회 캐시 통계(관리자) */
+    @GetMapping("/products-management/cache-stats")
+    public ResponseEntity<List<ProductCacheStatsResponse>> getCacheStats() {
+
+        final List<ProductCacheStatsResponse> cacheStats = new ArrayList<>(productService.getCacheStats());
+        cacheStats.add(catalogPageCache.getStats());
+
+        return ResponseEntity.ok(cacheStats);
+    }
+
+    /* 11. 카테고리 목록 조회 (고객) */
+    @GetMapping("/products/categories")
+    public ResponseEntity<List<CategoryResponse>> getCategories() {
+        // 상점 네비게이션용. 메모리에 보관 중인 목록을 응답하고 브라우저에서도 캐시하도록 한다.
+
+        final List<CategoryResponse> categories = productService.getCategories();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(categories);
+    }
+
+    /* 13. 상품 일괄 등록(관리자) : CSV (첫 줄 헤더) */
+    @PostMapping(value = "/products-management/import", consumes = "text/csv")
+    public ResponseEntity<ProductImportResponse> importCsv(final InputStream inputStream) {
+        // 요청 본문을 스트림으로 받아 한 줄씩 처리한다. (파일 전체를 메모리에 올리지 않음)
+
+        final ProductImportResponse importResponse = productImportService.importProducts(inputStream, ProductImportFormat.CSV);
+
+        return ResponseEntity.ok(importResponse);
+    }
+
+    /* 13. 상품 일괄 등록(관리자) : NDJSON (한 줄에 JSON 하나) */
+    @PostMapping(value = "/products-management/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ProductImportResponse> importNdjson(final InputStream inputStream) {
+
+        final ProductImportResponse importResponse = productImportService.importProducts(inputStream, ProductImportFormat.NDJSON);
+
+        return ResponseEntity.ok(importResponse);
+    }
+
+    /* 12. 카테고리 목록 다시 읽기(관리자) */
+    @PostMapping("/products-management/categories/reload")
+    public ResponseEntity<Void> reloadCategories() {
+
+        productService.reloadCategories();
+
+        return ResponseEntity.noContent().build();
+    }
 }
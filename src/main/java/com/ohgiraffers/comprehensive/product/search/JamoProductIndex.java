@@ -0,0 +1,171 @@
+package com.ohgiraffers.comprehensive.product.search;
+
+import com.ohgiraffers.comprehensive.common.util.HangulUtils;
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductChangedEvent;
+import com.ohgiraffers.comprehensive.product.dto.response.CustomerProductsResponse;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType.USABLE;
+
+/* 초성 / 자모 단위 상품명 검색 인덱스 (주문 가능 상품만)
+ * 상품명을 미리 자모("ㄱㅣㅁㅊㅣ"), 초성("ㄱㅊ")으로 분해하고 각각 n-gram 역색인을 만든다.
+ * - 초성으로만 된 검색어("ㄱㅊ") : 초성 역색인 (1 ~ 2-gram)
+ * - 그 외("김ㅊ", "김치") : 자모 역색인 (1 ~ 3-gram, 조합 중인 글자도 일치)
+ * 검색어의 gram 중 가장 짧은 상품 목록만 후보로 삼아 위치를 확인하므로 전체 상품을 순회하지 않는다.
+ * 앞부분 일치 상품을 먼저, 각각은 상품 코드 내림차순으로 보여준다.
+ * */
+@Component
+public class JamoProductIndex implements ProductIndex {
+
+    private static final int JAMO_GRAM_SIZE = 3;
+    private static final int CHOSUNG_GRAM_SIZE = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, NavigableSet<Long>> jamoPostings = new HashMap<>();
+    private final Map<String, NavigableSet<Long>> chosungPostings = new HashMap<>();
+
+    @Override
+    public void rebuild(final List<Product> products) {
+
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            jamoPostings.clear();
+            chosungPostings.clear();
+            products.stream()
+                    .filter(product -> product.getStatus() == USABLE)
+                    .forEach(product -> add(new Entry(CustomerProductsResponse.from(product))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(final ProductChangedEvent event) {
+
+        lock.writeLock().lock();
+        try {
+            remove(event.getProductCode());
+            if(event.getStatus() == USABLE) {
+                add(new Entry(CustomerProductsResponse.of(
+                        event.getProductCode(),
+                        event.getProductName(),
+                        event.getProductPrice(),
+                        event.getProductImageUrl()
+                )));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Page<CustomerProductsResponse> search(final String productName, final int page, final int size) {
+
+        final Pageable pageable = PageRequest.of(page - 1, size);
+        final boolean chosungOnly = HangulUtils.isChosungOnly(productName);
+        final String keyword = chosungOnly ? HangulUtils.chosung(productName) : HangulUtils.decompose(productName);
+
+        lock.readLock().lock();
+        try {
+            final NavigableSet<Long> candidates = chosungOnly
+                    ? findCandidates(chosungPostings, keyword, CHOSUNG_GRAM_SIZE)
+                    : findCandidates(jamoPostings, keyword, JAMO_GRAM_SIZE);
+
+            final List<CustomerProductsResponse> prefixMatches = new ArrayList<>();
+            final List<CustomerProductsResponse> infixMatches = new ArrayList<>();
+            for(Long productCode : candidates.descendingSet()) {
+                final Entry entry = entries.get(productCode);
+                final int position = (chosungOnly ? entry.getChosung() : entry.getJamo()).indexOf(keyword);
+                if(position == 0) prefixMatches.add(entry.getProduct());
+                else if(position > 0) infixMatches.add(entry.getProduct());
+            }
+            prefixMatches.addAll(infixMatches);
+
+            final int from = (int) Math.min(pageable.getOffset(), prefixMatches.size());
+            final int to = Math.min(from + size, prefixMatches.size());
+
+            return new PageImpl<>(new ArrayList<>(prefixMatches.subList(from, to)), pageable, prefixMatches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* 검색어 gram 중 가장 짧은 상품 목록 (하나라도 없는 gram 이 있으면 빈 목록), 빈 검색어는 전체 상품 */
+    private NavigableSet<Long> findCandidates(
+            final Map<String, NavigableSet<Long>> postings, final String keyword, final int gramSize) {
+
+        if(keyword.isEmpty()) return new TreeSet<>(entries.keySet());
+
+        NavigableSet<Long> candidates = null;
+        for(String gram : grams(keyword, gramSize)) {
+            final NavigableSet<Long> posting = postings.get(gram);
+            if(posting == null) return Collections.emptyNavigableSet();
+            if(candidates == null || posting.size() < candidates.size()) candidates = posting;
+        }
+        return candidates;
+    }
+
+    private void add(final Entry entry) {
+
+        final Long productCode = entry.getProduct().getProductCode();
+        entries.put(productCode, entry);
+        entry.getJamoGrams().forEach(gram -> jamoPostings.computeIfAbsent(gram, key -> new TreeSet<>()).add(productCode));
+        entry.getChosungGrams().forEach(gram -> chosungPostings.computeIfAbsent(gram, key -> new TreeSet<>()).add(productCode));
+    }
+
+    private void remove(final Long productCode) {
+
+        final Entry entry = entries.remove(productCode);
+        if(entry == null) return;
+
+        entry.getJamoGrams().forEach(gram -> removePosting(jamoPostings, gram, productCode));
+        entry.getChosungGrams().forEach(gram -> removePosting(chosungPostings, gram, productCode));
+    }
+
+    private static void removePosting(final Map<String, NavigableSet<Long>> postings, final String gram, final Long productCode) {
+
+        final NavigableSet<Long> posting = postings.get(gram);
+        posting.remove(productCode);
+        if(posting.isEmpty()) postings.remove(gram);
+    }
+
+    private static Set<String> grams(final String text, final int gramSize) {
+
+        final Set<String> grams = new HashSet<>();
+        for(int length = 1; length <= gramSize; length++) {
+            for(int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    @Getter
+    private static class Entry {
+
+        private final CustomerProductsResponse product;
+        private final String jamo;
+        private final String chosung;
+        private final Set<String> jamoGrams;
+        private final Set<String> chosungGrams;
+
+        Entry(final CustomerProductsResponse product) {
+            this.product = product;
+            this.jamo = HangulUtils.decompose(product.getProductName());
+            this.chosung = HangulUtils.chosung(product.getProductName());
+            this.jamoGrams = grams(jamo, JAMO_GRAM_SIZE);
+            this.chosungGrams = grams(chosung, CHOSUNG_GRAM_SIZE);
+        }
+    }
+}
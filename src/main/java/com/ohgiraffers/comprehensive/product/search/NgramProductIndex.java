@@ -0,0 +1,163 @@
+package com.ohgiraffers.comprehensive.product.search;
+
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductChangedEvent;
+import com.ohgiraffers.comprehensive.product.dto.response.CustomerProductsResponse;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import static com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType.USABLE;
+
+/* 상품명 n-gram 역색인 (주문 가능 상품만)
+ * LIKE '%검색어%' 는 인덱스를 탈 수 없어 매 요청마다 tbl_product 전체를 스캔한다.
+ * 상품명의 1-gram, 2-gram 마다 상품 코드 목록(내림차순 정렬)을 유지하고,
+ * 검색어의 gram 중 가장 짧은 목록만 후보로 삼아 상품명 포함 여부로 확정한다.
+ * */
+@Component
+public class NgramProductIndex implements ProductIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, NavigableSet<Long>> postings = new HashMap<>();
+
+    @Override
+    public void rebuild(final List<Product> products) {
+
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+            products.stream()
+                    .filter(product -> product.getStatus() == USABLE)
+                    .forEach(product -> add(new Entry(CustomerProductsResponse.from(product))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(final ProductChangedEvent event) {
+
+        lock.writeLock().lock();
+        try {
+            remove(event.getProductCode());
+            if(event.getStatus() == USABLE) {
+                add(new Entry(CustomerProductsResponse.of(
+                        event.getProductCode(),
+                        event.getProductName(),
+                        event.getProductPrice(),
+                        event.getProductImageUrl()
+                )));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* 상품명 검색 : 기존 목록 조회와 동일하게 상품 코드 내림차순, 페이지 번호는 1부터 */
+    public Page<CustomerProductsResponse> search(final String productName, final int page, final int size) {
+
+        final Pageable pageable = PageRequest.of(page - 1, size, Sort.by("productCode").descending());
+        final String keyword = normalize(productName);
+
+        lock.readLock().lock();
+        try {
+            final List<Long> productCodes = findProductCodes(keyword);
+            final int from = (int) Math.min(pageable.getOffset(), productCodes.size());
+            final int to = Math.min(from + size, productCodes.size());
+
+            final List<CustomerProductsResponse> content = productCodes.subList(from, to).stream()
+                    .map(productCode -> entries.get(productCode).getProduct())
+                    .collect(Collectors.toList());
+
+            return new PageImpl<>(content, pageable, productCodes.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> findProductCodes(final String keyword) {
+
+        /* 빈 검색어는 LIKE '%%' 와 같이 전체 상품 */
+        if(keyword.isEmpty()) {
+            return entries.keySet().stream()
+                    .sorted(Comparator.reverseOrder())
+                    .collect(Collectors.toList());
+        }
+
+        NavigableSet<Long> candidates = null;
+        for(String gram : grams(keyword)) {
+            final NavigableSet<Long> posting = postings.get(gram);
+            if(posting == null) return Collections.emptyList();
+            if(candidates == null || posting.size() < candidates.size()) candidates = posting;
+        }
+
+        return candidates.descendingSet().stream()
+                .filter(productCode -> entries.get(productCode).getName().contains(keyword))
+                .collect(Collectors.toList());
+    }
+
+    private void add(final Entry entry) {
+
+        final Long productCode = entry.getProduct().getProductCode();
+        entries.put(productCode, entry);
+        for(String gram : entry.getGrams()) {
+            postings.computeIfAbsent(gram, key -> new TreeSet<>()).add(productCode);
+        }
+    }
+
+    private void remove(final Long productCode) {
+
+        final Entry entry = entries.remove(productCode);
+        if(entry == null) return;
+
+        for(String gram : entry.getGrams()) {
+            final NavigableSet<Long> posting = postings.get(gram);
+            posting.remove(productCode);
+            if(posting.isEmpty()) postings.remove(gram);
+        }
+    }
+
+    /* MySQL 기본 collation 의 LIKE 처럼 대소문자를 구분하지 않는다. */
+    private static String normalize(final String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /* 1-gram 은 한 글자 검색어를 위해, 2-gram 은 후보를 좁히기 위해 사용한다. */
+    private static Set<String> grams(final String text) {
+
+        final Set<String> grams = new HashSet<>();
+        for(int length = 1; length <= GRAM_SIZE; length++) {
+            for(int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    @Getter
+    private static class Entry {
+
+        private final CustomerProductsResponse product;
+        private final String name;
+        private final Set<String> grams;
+
+        Entry(final CustomerProductsResponse product) {
+            this.product = product;
+            this.name = normalize(product.getProductName());
+            this.grams = grams(name);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ohgiraffers.comprehensive.product.search;
+
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductChangedEvent;
+
+import java.util.List;
+
+/* 상품 데이터로 만든 메모리 구조
+ * 애플리케이션 시작 시 주문 가능 상품 전체로 rebuild 되고, 이후 상품 변경은 커밋 후 apply 로 반영된다.
+ * */
+public interface ProductIndex {
+
+    void rebuild(List<Product> products);
+
+    void apply(ProductChangedEvent event);
+}
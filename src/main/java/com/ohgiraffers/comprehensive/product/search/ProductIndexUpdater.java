@@ -0,0 +1,40 @@
+package com.ohgiraffers.comprehensive.product.search;
+
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductChangedEvent;
+import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+import static com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType.USABLE;
+
+@Component
+@RequiredArgsConstructor
+public class ProductIndexUpdater {
+
+    private final List<ProductIndex> productIndexes;
+    private final ProductRepository productRepository;
+
+    /* 1. 시작 시 주문 가능 상품 전체를 한 번만 조회해서 모든 인덱스를 만든다. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+
+        final List<Product> products = productRepository.findByStatus(USABLE);
+
+        productIndexes.forEach(productIndex -> productIndex.rebuild(products));
+    }
+
+    /* 2. 상품 등록/수정/삭제는 커밋이 끝난 뒤에 반영한다. (롤백 된 변경은 반영하지 않음) */
+    @TransactionalEventListener
+    public void onProductChanged(final ProductChangedEvent event) {
+
+        productIndexes.forEach(productIndex -> productIndex.apply(event));
+    }
+}
@@ -0,0 +1,126 @@
+package com.ohgiraffers.comprehensive.product.search;
+
+import com.ohgiraffers.comprehensive.common.util.HangulUtils;
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductChangedEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType.USABLE;
+
+/* 상품명 자동 완성용 prefix trie (주문 가능 상품만)
+ * 상품명을 자모로 분해한 문자열을 key 로 사용해서 "김ㅊ" 처럼 조합 중인 입력도 이어지게 한다.
+ * 검색어 노드에서 너비 우선으로 내려가므로 짧은(가까운) 상품명이 먼저 추천된다.
+ * */
+@Component
+public class ProductNameTrie implements ProductIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String> productNames = new HashMap<>();
+    private Node root = new Node();
+
+    @Override
+    public void rebuild(final List<Product> products) {
+
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            productNames.clear();
+            products.stream()
+                    .filter(product -> product.getStatus() == USABLE)
+                    .forEach(product -> add(product.getProductCode(), product.getProductName()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void apply(final ProductChangedEvent event) {
+
+        lock.writeLock().lock();
+        try {
+            remove(event.getProductCode());
+            if(event.getStatus() == USABLE) {
+                add(event.getProductCode(), event.getProductName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* prefix 로 시작하는 상품명 최대 size 개 */
+    public List<String> suggest(final String prefix, final int size) {
+
+        final String key = HangulUtils.decompose(prefix);
+        if(key.isEmpty()) return Collections.emptyList();
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for(char ch : key.toCharArray()) {
+                node = node.children.get(ch);
+                if(node == null) return Collections.emptyList();
+            }
+
+            final Set<String> suggestions = new LinkedHashSet<>();
+            final Deque<Node> queue = new ArrayDeque<>();
+            queue.add(node);
+            while(!queue.isEmpty() && suggestions.size() < size) {
+                final Node current = queue.poll();
+                for(String name : current.names.keySet()) {
+                    if(suggestions.size() == size) break;
+                    suggestions.add(name);
+                }
+                queue.addAll(current.children.values());
+            }
+            return new ArrayList<>(suggestions);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(final Long productCode, final String productName) {
+
+        productNames.put(productCode, productName);
+
+        Node node = root;
+        for(char ch : HangulUtils.decompose(productName).toCharArray()) {
+            node = node.children.computeIfAbsent(ch, key -> new Node());
+        }
+        node.names.merge(productName, 1, Integer::sum);
+    }
+
+    private void remove(final Long productCode) {
+
+        final String productName = productNames.remove(productCode);
+        if(productName == null) return;
+
+        /* 경로를 기억해 두었다가 비어 있는 노드를 아래에서부터 정리한다. */
+        final String key = HangulUtils.decompose(productName);
+        final Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for(int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].children.get(key.charAt(i));
+            if(path[i + 1] == null) return;
+        }
+
+        path[key.length()].names.computeIfPresent(productName, (name, count) -> count == 1 ? null : count - 1);
+
+        for(int i = key.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].children.remove(key.charAt(i - 1));
+        }
+    }
+
+    private static class Node {
+
+        private final SortedMap<Character, Node> children = new TreeMap<>();
+        private final SortedMap<String, Integer> names = new TreeMap<>(); // 같은 이름의 상품 수
+
+        boolean isEmpty() {
+            return children.isEmpty() && names.isEmpty();
+        }
+    }
+}
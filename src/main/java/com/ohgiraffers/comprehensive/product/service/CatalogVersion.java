@@ -0,0 +1,33 @@
+package com.ohgiraffers.comprehensive.product.service;
+
+import com.ohgiraffers.comprehensive.common.cache.VersionStamp;
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductChangedEvent;
+import com.ohgiraffers.comprehensive.product.search.ProductIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/* 상품 목록(카탈로그) 버전
+ * 상품 등록/수정/삭제, 일괄 등록이 커밋 될 때마다 올라가며 목록 응답의 ETag 로 사용한다.
+ * */
+@Component
+public class CatalogVersion implements ProductIndex {
+
+    private final AtomicReference<VersionStamp> stamp = new AtomicReference<>(VersionStamp.initial());
+
+    public VersionStamp current() {
+        return stamp.get();
+    }
+
+    @Override
+    public void rebuild(final List<Product> products) {
+        stamp.updateAndGet(VersionStamp::next);
+    }
+
+    @Override
+    public void apply(final ProductChangedEvent event) {
+        stamp.updateAndGet(VersionStamp::next);
+    }
+}
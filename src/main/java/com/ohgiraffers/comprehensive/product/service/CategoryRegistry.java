@@ -0,0 +1,52 @@
+package com.ohgiraffers.comprehensive.product.service;
+
+import com.ohgiraffers.comprehensive.common.exception.NotFoundException;
+import com.ohgiraffers.comprehensive.product.domain.repository.CategoryRepository;
+import com.ohgiraffers.comprehensive.product.dto.response.CategoryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.NOT_FOUND_CATEGORY_CODE;
+
+/* 카테고리 목록 (메모리 보관)
+ * 카테고리는 거의 바뀌지 않으므로 시작 시 한 번 읽어 두고 상품 등록/수정, 카테고리별 목록에서 DB 조회 없이 확인한다.
+ * reload 는 새 Map 을 만든 뒤 참조만 교체(copy-on-write)하므로 읽는 쪽은 잠금이 필요 없다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Map<Long, CategoryResponse> categories = Collections.emptyMap();
+
+    @PostConstruct
+    public void reload() {
+
+        final Map<Long, CategoryResponse> loaded = new LinkedHashMap<>();
+        categoryRepository.findAll(Sort.by("categoryCode"))
+                .forEach(category -> loaded.put(category.getCategoryCode(), CategoryResponse.from(category)));
+
+        categories = Collections.unmodifiableMap(loaded);
+    }
+
+    public CategoryResponse getCategory(final Long categoryCode) {
+
+        final CategoryResponse category = categoryCode == null ? null : categories.get(categoryCode);
+        if(category == null) {
+            throw new NotFoundException(NOT_FOUND_CATEGORY_CODE);
+        }
+        return category;
+    }
+
+    public List<CategoryResponse> getCategories() {
+        return List.copyOf(categories.values());
+    }
+}
@@ -0,0 +1,64 @@
+package com.ohgiraffers.comprehensive.product.service;
+
+import com.ohgiraffers.comprehensive.product.domain.event.ProductChangedEvent;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductSoldEvent;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductCacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/* 고객용 상품 상세 캐시 (크기 + TTL 제한은 application.yml 의 spring.cache.caffeine.spec)
+ * customerProduct : key = productCode
+ * 상품 수정/삭제, 주문 시 영향 받는 항목만 커밋 후 제거한다.
+ * 목록 페이지는 CatalogPageCache 가 카탈로그 버전별로 캐시한다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class ProductCaches {
+
+    public static final String CUSTOMER_PRODUCT = "customerProduct";
+
+    private final CacheManager cacheManager;
+
+    /* 상품 등록/수정/삭제 : 커밋 후 제거한다. (커밋 전에 제거하면 동시 조회가 변경 전 행으로 다시 채울 수 있다.) */
+    @TransactionalEventListener
+    public void onProductChanged(final ProductChangedEvent event) {
+        evict(CUSTOMER_PRODUCT, event.getProductCode());
+    }
+
+    /* 주문으로 재고가 차감 된 상품 : 상세 응답에 재고가 들어 있으므로 커밋 후 제거한다. (목록에는 재고가 없다.) */
+    @TransactionalEventListener
+    public void onProductSold(final ProductSoldEvent event) {
+        event.getProductCodes().forEach(productCode -> evict(CUSTOMER_PRODUCT, productCode));
+    }
+
+    /* 캐시별 hit / miss / eviction 통계 */
+    public List<ProductCacheStatsResponse> getStats() {
+        return Stream.of(CUSTOMER_PRODUCT)
+                .map(cacheName -> ProductCacheStatsResponse.of(cacheName, getNativeCache(cacheName)))
+                .collect(Collectors.toList());
+    }
+
+    private void evict(final String cacheName, final Object key) {
+        getCache(cacheName).evict(key);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache(final String cacheName) {
+        return ((CaffeineCache) getCache(cacheName)).getNativeCache();
+    }
+
+    private Cache getCache(final String cacheName) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if(cache == null) {
+            throw new IllegalStateException("캐시가 등록되지 않았습니다 : " + cacheName);
+        }
+        return cache;
+    }
+}
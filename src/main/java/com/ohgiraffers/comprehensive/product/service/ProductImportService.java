@@ -0,0 +1,220 @@
+package com.ohgiraffers.comprehensive.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.comprehensive.common.exception.BadRequestException;
+import com.ohgiraffers.comprehensive.common.exception.NotFoundException;
+import com.ohgiraffers.comprehensive.common.exception.ServerInternalException;
+import com.ohgiraffers.comprehensive.product.domain.repository.ProductJdbcRepository;
+import com.ohgiraffers.comprehensive.product.domain.type.ProductImportFormat;
+import com.ohgiraffers.comprehensive.product.dto.request.ProductImportRow;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductImportError;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductImportResponse;
+import com.ohgiraffers.comprehensive.product.search.ProductIndexUpdater;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.FAIL_TO_READ_IMPORT;
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.INVALID_IMPORT_HEADER;
+import static com.ohgiraffers.comprehensive.product.domain.type.ProductImportFormat.CSV;
+
+/* 상품 일괄 등록
+ * 요청 본문을 한 줄씩 읽어 검증하고, 통과한 행만 BATCH_SIZE 단위로 모아 JDBC batch insert 한다.
+ * 전체 파일을 메모리에 올리지 않으며 batch 마다 별도 트랜잭션이므로 실패한 batch 만 오류로 보고된다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ERRORS = 1000;
+    private static final List<String> CSV_COLUMNS = List.of(
+            "productName", "productPrice", "productDescription", "categoryCode", "productStock", "productImageUrl");
+
+    private final ProductJdbcRepository productJdbcRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final ProductIndexUpdater productIndexUpdater;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public ProductImportResponse importProducts(final InputStream inputStream, final ProductImportFormat format) {
+
+        final ImportProgress progress = new ImportProgress();
+
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+
+            final Map<String, Integer> header = format == CSV ? readCsvHeader(reader.readLine()) : null;
+
+            String line;
+            while((line = reader.readLine()) != null) {
+                if(line.isBlank()) continue;
+
+                final long rowNumber = ++progress.totalRows;
+                try {
+                    final ProductImportRow row = format == CSV
+                            ? parseCsvRow(line, header)
+                            : objectMapper.readValue(line, ProductImportRow.class);
+
+                    final String error = validate(row);
+                    if(error != null) {
+                        progress.fail(rowNumber, error);
+                        continue;
+                    }
+                    progress.add(rowNumber, row);
+                } catch (JsonProcessingException | IllegalArgumentException e) {
+                    progress.fail(rowNumber, e.getMessage());
+                }
+
+                if(progress.batch.size() == BATCH_SIZE) flush(progress);
+            }
+            flush(progress);
+
+        } catch (IOException e) {
+            throw new ServerInternalException(FAIL_TO_READ_IMPORT);
+        } finally {
+            /* 등록 된 상품이 있으면 검색 인덱스와 카탈로그 버전을 다시 만든다. (생성 된 키를 받지 않으므로 전체 재구성) */
+            if(progress.importedRows > 0) {
+                productIndexUpdater.rebuild();
+            }
+        }
+
+        return ProductImportResponse.of(progress.totalRows, progress.importedRows, progress.failedRows, progress.errors);
+    }
+
+    private void flush(final ImportProgress progress) {
+
+        if(progress.batch.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> productJdbcRepository.batchInsert(progress.batch));
+            progress.importedRows += progress.batch.size();
+        } catch (DataAccessException e) {
+            progress.batchRowNumbers.forEach(rowNumber -> progress.fail(rowNumber, "저장에 실패하였습니다."));
+        }
+
+        progress.batch.clear();
+        progress.batchRowNumbers.clear();
+    }
+
+    /* bean validation + 카테고리 존재 여부, 문제가 없으면 null */
+    private String validate(final ProductImportRow row) {
+
+        final Set<ConstraintViolation<ProductImportRow>> violations = validator.validate(row);
+        if(!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " : " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+
+        try {
+            categoryRegistry.getCategory(row.getCategoryCode());
+        } catch (NotFoundException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    private Map<String, Integer> readCsvHeader(final String headerLine) {
+
+        if(headerLine == null) throw new BadRequestException(INVALID_IMPORT_HEADER);
+
+        final List<String> columns = splitCsvLine(headerLine.replace("\uFEFF", "")); // 엑셀 저장 시 붙는 BOM 제거
+        final Map<String, Integer> header = new HashMap<>();
+        for(int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim(), i);
+        }
+
+        if(!header.keySet().containsAll(CSV_COLUMNS)) throw new BadRequestException(INVALID_IMPORT_HEADER);
+
+        return header;
+    }
+
+    private ProductImportRow parseCsvRow(final String line, final Map<String, Integer> header) {
+
+        final List<String> fields = splitCsvLine(line);
+        if(fields.size() < header.size()) {
+            throw new IllegalArgumentException("컬럼 수가 헤더보다 적습니다.");
+        }
+
+        return new ProductImportRow(
+                fields.get(header.get("productName")),
+                toLong(fields.get(header.get("productPrice"))),
+                fields.get(header.get("productDescription")),
+                toLong(fields.get(header.get("categoryCode"))),
+                toLong(fields.get(header.get("productStock"))),
+                fields.get(header.get("productImageUrl"))
+        );
+    }
+
+    private static Long toLong(final String value) {
+        return value.isBlank() ? null : Long.valueOf(value.trim()); // NumberFormatException 은 행 오류로 처리
+    }
+
+    /* RFC 4180 형식의 한 줄 (따옴표로 감싼 필드, "" 이스케이프). 필드 안의 줄바꿈은 지원하지 않는다. */
+    private static List<String> splitCsvLine(final String line) {
+
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for(int i = 0; i < line.length(); i++) {
+            final char ch = line.charAt(i);
+            if(quoted) {
+                if(ch != '"') {
+                    field.append(ch);
+                } else if(i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if(ch == '"') {
+                quoted = true;
+            } else if(ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(ch);
+            }
+        }
+
+        if(quoted) throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+    private static class ImportProgress {
+
+        private final List<ProductImportRow> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<Long> batchRowNumbers = new ArrayList<>(BATCH_SIZE);
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        void add(final long rowNumber, final ProductImportRow row) {
+            batch.add(row);
+            batchRowNumbers.add(rowNumber);
+        }
+
+        void fail(final long rowNumber, final String message) {
+            failedRows++;
+            if(errors.size() < MAX_ERRORS) errors.add(ProductImportError.of(rowNumber, message));
+        }
+    }
+}
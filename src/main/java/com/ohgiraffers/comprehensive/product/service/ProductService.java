@@ -1,31 +1,57 @@
 package com.ohgiraffers.comprehensive.product.service;
 
+import com.ohgiraffers.comprehensive.common.cache.VersionStamp;
+import com.ohgiraffers.comprehensive.common.exception.BadRequestException;
 import com.ohgiraffers.comprehensive.common.exception.NotFoundException;
 import com.ohgiraffers.comprehensive.common.util.FileUploadUtils;
 import com.ohgiraffers.comprehensive.product.domain.Category;
 import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductChangedEvent;
+import com.ohgiraffers.comprehensive.product.domain.event.ProductStockChangedEvent;
+import com.ohgiraffers.comprehensive.product.domain.projection.AdminProductSummary;
+import com.ohgiraffers.comprehensive.product.domain.projection.ProductFacetCount;
+import com.ohgiraffers.comprehensive.product.domain.projection.ProductSummary;
 import com.ohgiraffers.comprehensive.product.domain.repository.CategoryRepository;
+import com.ohgiraffers.comprehensive.product.domain.repository.ProductFilterRepository;
 import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
+import com.ohgiraffers.comprehensive.product.domain.specification.ProductSpecifications;
+import com.ohgiraffers.comprehensive.product.domain.type.SalesPeriodType;
 import com.ohgiraffers.comprehensive.product.dto.request.ProductCreateRequest;
+import com.ohgiraffers.comprehensive.product.dto.request.ProductFilterRequest;
 import com.ohgiraffers.comprehensive.product.dto.request.ProductUpdateRequest;
 import com.ohgiraffers.comprehensive.product.dto.response.AdminProductResponse;
 import com.ohgiraffers.comprehensive.product.dto.response.AdminProductsResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.CategoryResponse;
 import com.ohgiraffers.comprehensive.product.dto.response.CustomerProductResponse;
 import com.ohgiraffers.comprehensive.product.dto.response.CustomerProductsResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductCacheStatsResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductFacetsResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductFilterResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.TopSellerResponse;
+import com.ohgiraffers.comprehensive.product.search.JamoProductIndex;
+import com.ohgiraffers.comprehensive.product.search.NgramProductIndex;
+import com.ohgiraffers.comprehensive.product.search.ProductNameTrie;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.UUID;
 
-import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.NOT_FOUND_CATEGORY_CODE;
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.INVALID_TOP_SELLERS_SIZE;
 import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.NOT_FOUND_PRODUCT_CODE;
+import static com.ohgiraffers.comprehensive.product.service.ProductCaches.CUSTOMER_PRODUCT;
 import static com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType.DELETED;
 import static com.ohgiraffers.comprehensive.product.domain.type.ProductStatusType.USABLE;
 
@@ -35,7 +61,16 @@ import static com.ohgiraffers.comprehensive.product.domain.type.ProductStatusTyp
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductFilterRepository productFilterRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductCaches productCaches;
+    private final CategoryRegistry categoryRegistry;
+    private final CatalogVersion catalogVersion;
+    private final NgramProductIndex ngramProductIndex;
+    private final JamoProductIndex jamoProductIndex;
+    private final ProductNameTrie productNameTrie;
+    private final TopSellers topSellers;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${image.image-url}") // 키값
     private String IMAGE_URL;
@@ -46,45 +81,133 @@ public class ProductService {
         return PageRequest.of(page -1, 10, Sort.by("productCode").descending());
     }
 
-    /* 1. 상품 목록 조회 : 페이징, 주문 불가 상품 제외 (고객) */
+    /* 커서 기반 조회는 항상 첫 번째 slice를 요청하고 조건(productCode < after)으로 위치를 찾는다. */
+    private Pageable getCursorPageable() {
+        return PageRequest.of(0, 10, Sort.by("productCode").descending());
+    }
+
+    private Long getCursorKey(final Long after) {
+        return after == null ? Long.MAX_VALUE : after;
+    }
+
+    /* 1. 상품 목록 조회 : 페이징, 주문 불가 상품 제외 (고객)
+     * 응답 byte 는 CatalogPageCache 가 카탈로그 버전별로 캐시하므로 여기서는 항상 DB 에서 읽는다.
+     * (다른 캐시를 거치면 이전 버전의 목록이 새 버전 key 로 저장될 수 있다.)
+     * */
     @Transactional(readOnly = true)
     public Page<CustomerProductsResponse> getCustomerProducts(final Integer page) {
 
-        Page<Product> products = productRepository.findByStatus(getPageable(page), USABLE);
+        Page<ProductSummary> products = productRepository.findByStatus(getPageable(page), USABLE);
         // Product Entity가 노출되면 위험하기 때문에 Page<>에서 내보낼 때 dto 타입이어야 한다.
 
         return products.map(product -> CustomerProductsResponse.from(product));
     }
 
+    /* 1-1. 상품 목록 조회 : 커서 기반, 주문 불가 상품 제외 (고객) */
+    @Transactional(readOnly = true)
+    public Slice<CustomerProductsResponse> getCustomerProductsAfter(final Long after) {
+
+        Slice<ProductSummary> products = productRepository.findByStatusAndProductCodeLessThan(getCursorPageable(), USABLE, getCursorKey(after));
+
+        return products.map(product -> CustomerProductsResponse.from(product));
+    }
+
     /* 2. 상품 목록 조회 : 페이징, 주문 불가 상품 포함 (관리자) */
     @Transactional(readOnly = true)
     public Page<AdminProductsResponse> getAdminProducts(final Integer page) {
 
-        Page<Product> products = productRepository.findByStatusNot(getPageable(page), DELETED);
+        Page<AdminProductSummary> products = productRepository.findByStatusNot(getPageable(page), DELETED);
+
+        return products.map(product -> AdminProductsResponse.from(product));
+    }
+
+    /* 2-1. 상품 목록 조회 : 커서 기반, 주문 불가 상품 포함 (관리자) */
+    @Transactional(readOnly = true)
+    public Slice<AdminProductsResponse> getAdminProductsAfter(final Long after) {
+
+        Slice<AdminProductSummary> products = productRepository.findByStatusNotAndProductCodeLessThan(getCursorPageable(), DELETED, getCursorKey(after));
 
         return products.map(product -> AdminProductsResponse.from(product));
     }
 
-    /* 3. 상품 목록 조회 : 카테고리 기준, 페이징, 주문 불가 상품 제외(고객) */
+    /* 3. 상품 목록 조회 : 카테고리 기준, 페이징, 주문 불가 상품 제외(고객) (1 과 같이 CatalogPageCache 가 캐시한다.) */
     @Transactional(readOnly = true)
     public Page<CustomerProductsResponse> getCustomerProductsByCategory(final Integer page, final Long categoryCode) {
 
-        Page<Product> products = productRepository.findByCategoryCategoryCodeAndStatus(getPageable(page), categoryCode, USABLE);
+        categoryRegistry.getCategory(categoryCode);
+
+        Page<ProductSummary> products = productRepository.findByCategoryCategoryCodeAndStatus(getPageable(page), categoryCode, USABLE);
 
         return products.map(product -> CustomerProductsResponse.from(product));
     }
 
-    /* 4. 상품 목록 조회 : 상품명 검색 기준, 페이징, 주문 불가 상품 제외 (고객) */
+    /* 3-1. 상품 목록 조회 : 카테고리 기준, 커서 기반, 주문 불가 상품 제외(고객) */
     @Transactional(readOnly = true)
-    public Page<CustomerProductsResponse> getCustomerProductsByProductName(final Integer page, final String productName) {
+    public Slice<CustomerProductsResponse> getCustomerProductsByCategoryAfter(final Long after, final Long categoryCode) {
+
+        categoryRegistry.getCategory(categoryCode);
 
-        Page<Product> products = productRepository.findByProductNameContainsAndStatus(getPageable(page), productName, USABLE);
+        Slice<ProductSummary> products = productRepository.findByCategoryCategoryCodeAndStatusAndProductCodeLessThan(
+                getCursorPageable(), categoryCode, USABLE, getCursorKey(after));
 
         return products.map(product -> CustomerProductsResponse.from(product));
     }
 
+    /* 4. 상품 목록 조회 : 상품명 검색 기준, 페이징, 주문 불가 상품 제외 (고객) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 메모리 인덱스에서 조회하므로 DB 커넥션을 사용하지 않는다.
+    public Page<CustomerProductsResponse> getCustomerProductsByProductName(final Integer page, final String productName) {
+
+        return ngramProductIndex.search(productName, page, 10);
+    }
+
+    /* 4-1. 상품 목록 조회 : 초성/자모 검색 기준, 페이징, 주문 불가 상품 제외 (고객) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<CustomerProductsResponse> getCustomerProductsByJamo(final Integer page, final String productName) {
+
+        return jamoProductIndex.search(productName, page, 10);
+    }
+
+    /* 4-2. 상품명 자동 완성 (고객) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> getProductNameSuggestions(final String prefix, final Integer size) {
+
+        return productNameTrie.suggest(prefix, Math.min(size, 20));
+    }
+
+    /* 4-3. 상품 목록 조회 : 카테고리 / 가격 / 재고 필터 + 정렬, 조건별 상품 수, 주문 불가 상품 제외 (고객) */
+    @Transactional(readOnly = true)
+    public ProductFilterResponse getCustomerProductsByFilter(final Integer page, final ProductFilterRequest filter) {
+
+        if(filter.getCategoryCode() != null) categoryRegistry.getCategory(filter.getCategoryCode());
+
+        /* facet 집계 한 번으로 조건별 건수와 목록 전체 건수를 함께 구한다. (별도 count 쿼리 없음) */
+        final List<ProductFacetCount> facetCounts = productFilterRepository.countFacets(
+                USABLE, filter.getMinPriceOrDefault(), filter.getMaxPriceOrDefault());
+        final long totalCount = ProductFacetsResponse.countMatches(facetCounts, filter);
+
+        final Pageable pageable = PageRequest.of(page - 1, 10, filter.getSortOrDefault().getSort());
+        final List<CustomerProductsResponse> products = totalCount > pageable.getOffset()
+                ? productFilterRepository.findAll(ProductSpecifications.of(USABLE, filter), pageable)
+                : List.of();
+
+        return ProductFilterResponse.of(
+                new PageImpl<>(products, pageable, totalCount),
+                ProductFacetsResponse.of(facetCounts, filter, categoryRegistry.getCategories())
+        );
+    }
+
+    /* 4-4. 판매 순위 조회 : 판매 집계에서 주기적으로 읽어 둔 순위를 메모리에서 응답 (고객) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TopSellerResponse> getTopSellers(final SalesPeriodType period, final Integer size) {
+
+        if(size < 1) throw new BadRequestException(INVALID_TOP_SELLERS_SIZE);
+
+        return topSellers.get(period, Math.min(size, TopSellers.MAX_SIZE));
+    }
+
     /* 5. 상품 상세 조회 : productCode로 상품 1개 조회, 주문 불가 상품 제외(고객) */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CUSTOMER_PRODUCT, key = "#productCode")
     public CustomerProductResponse getCustomerProduct(final Long productCode) {
     // 목록이 아니기 때문에 Page 말고 별도의 응답 객체 타입을 만들어서 사용한다.
 
@@ -114,10 +237,9 @@ public class ProductService {
     public Long save(final MultipartFile productImg, final ProductCreateRequest productRequest) {
 
         /* 전달 된 파일을 서버의 지정 경로에 저장 */
-        String replaceFileName = FileUploadUtils.saveFile(IMAGE_DIR, getRandomName(), productImg);
+        Category category = getCategoryReference(productRequest.getCategoryCode());
 
-        Category category = categoryRepository.findById(productRequest.getCategoryCode())
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_CATEGORY_CODE));
+        String replaceFileName = FileUploadUtils.saveFile(IMAGE_DIR, getRandomName(), productImg);
 
         final Product newProduct = Product.of(
                 productRequest.getProductName(),
@@ -130,6 +252,8 @@ public class ProductService {
 
         final Product product = productRepository.save(newProduct);
 
+        eventPublisher.publishEvent(ProductChangedEvent.from(product));
+
         return product.getProductCode();
     }
 
@@ -139,8 +263,9 @@ public class ProductService {
         Product product = productRepository.findByProductCodeAndStatusNot(productCode, DELETED)
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_PRODUCT_CODE));
 
-        Category category = categoryRepository.findById(productRequest.getCategoryCode())
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_CATEGORY_CODE));
+        Category category = getCategoryReference(productRequest.getCategoryCode());
+
+        final Long previousStock = product.getProductStock();
 
         /* 이미지 수정 시 새로운 이미지 저장 후 기존 이미지 삭제 로직 필요 */
         if(productImg != null) {
@@ -162,12 +287,56 @@ public class ProductService {
                 productRequest.getProductStock(),
                 productRequest.getStatus()
         );
+
+        eventPublisher.publishEvent(ProductChangedEvent.from(product));
+        if(!previousStock.equals(product.getProductStock())) {
+            eventPublisher.publishEvent(ProductStockChangedEvent.of(productCode, product.getProductStock() - previousStock));
+        }
+    }
+
+    /* 카테고리 존재 여부는 CategoryRegistry 에서 확인하고 연관 관계에는 조회 없이 프록시(reference)를 사용한다. */
+    private Category getCategoryReference(final Long categoryCode) {
+
+        categoryRegistry.getCategory(categoryCode);
+
+        return categoryRepository.getReferenceById(categoryCode);
     }
 
     /* 9. 상품 삭제(관리자) */
     public void delete(final Long productCode) {
 
-        productRepository.deleteById(productCode);
+        Product product = productRepository.findById(productCode)
+                .orElseThrow(() -> new NotFoundException(NOT_FOUND_PRODUCT_CODE));
+
+        productRepository.delete(product);
+
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(product));
+    }
+
+    /* 10. 상품 조회 캐시 통계(관리자) */
+    @Transactional(readOnly = true)
+    public List<ProductCacheStatsResponse> getCacheStats() {
+
+        return productCaches.getStats();
+    }
+
+    /* 상품 목록 버전 (조건부 GET) : 상품 변경이 커밋 될 때마다 올라간다. */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VersionStamp getCatalogStamp() {
+
+        return catalogVersion.current();
+    }
+
+    /* 11. 카테고리 목록 조회 (고객) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CategoryResponse> getCategories() {
+
+        return categoryRegistry.getCategories();
+    }
+
+    /* 12. 카테고리 목록 다시 읽기(관리자) */
+    public void reloadCategories() {
 
+        categoryRegistry.reload();
     }
 }
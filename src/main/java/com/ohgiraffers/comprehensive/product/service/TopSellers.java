@@ -0,0 +1,58 @@
+package com.ohgiraffers.comprehensive.product.service;
+
+import com.ohgiraffers.comprehensive.product.domain.repository.SalesJdbcRepository;
+import com.ohgiraffers.comprehensive.product.domain.type.SalesPeriodType;
+import com.ohgiraffers.comprehensive.product.dto.response.TopSellerResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/* 판매 순위 (메모리)
+ * 집계 테이블에서 기간별 상위 MAX_SIZE 개를 주기적으로 읽어 두고, 조회 요청은 메모리에서만 응답한다.
+ * 읽기에 실패하면 이전 순위를 그대로 두고 다음 주기에 다시 읽는다. (시작 시 실패해도 애플리케이션은 뜬다.)
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopSellers {
+
+    public static final int MAX_SIZE = 100;
+
+    private final SalesJdbcRepository salesJdbcRepository;
+    private volatile Map<SalesPeriodType, List<TopSellerResponse>> rankings = new EnumMap<>(SalesPeriodType.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${sales.top-sellers-refresh-ms}", initialDelayString = "${sales.top-sellers-refresh-ms}")
+    public void refresh() {
+
+        final Map<SalesPeriodType, List<TopSellerResponse>> refreshed = new EnumMap<>(SalesPeriodType.class);
+        try {
+            for(SalesPeriodType period : SalesPeriodType.values()) {
+                refreshed.put(period, period.getDays() == null
+                        ? salesJdbcRepository.findTopSellers(MAX_SIZE)
+                        : salesJdbcRepository.findTopSellersSince(LocalDate.now().minusDays(period.getDays() - 1), MAX_SIZE));
+            }
+        } catch (DataAccessException e) {
+            log.error("판매 순위를 읽지 못했습니다. 이전 순위를 유지합니다. {}", e.getMessage());
+            return;
+        }
+        rankings = refreshed;
+    }
+
+    public List<TopSellerResponse> get(final SalesPeriodType period, final int size) {
+
+        if(size < 1) return List.of();
+
+        final List<TopSellerResponse> ranking = rankings.getOrDefault(period, List.of());
+        return ranking.subList(0, Math.min(size, ranking.size()));
+    }
+}
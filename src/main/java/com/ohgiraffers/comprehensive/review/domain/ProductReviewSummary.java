@@ -0,0 +1,27 @@
+package com.ohgiraffers.comprehensive.review.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/* 상품별 리뷰 요약 (리뷰 수, 최근 리뷰 작성 시각)
+ * 리뷰 저장 / 상태 변경과 같은 트랜잭션에서 갱신한다. (ReviewSummaryRepository)
+ * */
+@Entity
+@Table(name = "tbl_review_summary")
+@NoArgsConstructor(access = PROTECTED)
+@Getter
+public class ProductReviewSummary {
+
+    @Id
+    private Long productCode;
+
+    @Column(nullable = false)
+    private Long reviewCount;
+
+    private LocalDateTime latestReviewAt; // 리뷰가 없으면 null
+}
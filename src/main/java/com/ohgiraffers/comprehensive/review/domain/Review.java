@@ -9,26 +9,40 @@ import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 
+import static javax.persistence.FetchType.LAZY;
 import static javax.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
-@Table(name = "tbl_review")
+@Table(name = "tbl_review", uniqueConstraints = {
+        /* 회원은 상품마다 리뷰를 하나만 작성할 수 있다.
+         * 삭제(DELETED) 된 리뷰는 activeMemberCode 가 NULL 이라 제약에 걸리지 않으므로 다시 작성할 수 있고,
+         * 관리자가 숨긴(HIDDEN) 리뷰는 제약에 걸리므로 새 리뷰로 숨김을 우회할 수 없다.
+         * */
+        @UniqueConstraint(name = Review.UNIQUE_PRODUCT_MEMBER, columnNames = {"productCode", "activeMemberCode"})
+}, indexes = {
+        /* 상품별 리뷰 목록 (reviewCode 정렬) / 상품 기준 일괄 숨김 */
+        @Index(name = "idx_review_product_code", columnList = "productCode, reviewCode"),
+        /* 회원 기준 일괄 숨김 */
+        @Index(name = "idx_review_member_code", columnList = "memberCode, reviewCode")
+})
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @Where(clause = "status = 'USABLE'")
 //@SQLDelete(sql = "UPDATE tbl_review SET status = 'DELETED' WHERE reviewCode = ?")
 public class Review extends BaseEntity {
 
+    public static final String UNIQUE_PRODUCT_MEMBER = "uk_review_product_member";
+
     @Id
     @GeneratedValue(strategy = IDENTITY)
     private Long reviewCode;
 
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "productCode")
     private Product product;
 
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "memberCode")
     private Member member;
 
@@ -38,6 +52,10 @@ public class Review extends BaseEntity {
     @Column(nullable = false)
     private String reviewContent;
 
+    /* DB 생성 컬럼 : status 가 DELETED 이면 NULL, 그 외에는 memberCode (V7__review_unique_constraint.sql) */
+    @Column(insertable = false, updatable = false)
+    private Long activeMemberCode;
+
     public Review(Product product, Member member, String reviewTitle, String reviewContent) {
         this.product = product;
         this.member = member;
@@ -0,0 +1,12 @@
+package com.ohgiraffers.comprehensive.review.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* 리뷰 등록/상태 변경 이벤트 (어떤 상품의 리뷰 목록이 바뀌었는지) */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class ReviewChangedEvent {
+
+    private final Long productCode;
+}
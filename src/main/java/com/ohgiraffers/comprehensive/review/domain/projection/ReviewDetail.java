@@ -0,0 +1,21 @@
+package com.ohgiraffers.comprehensive.review.domain.projection;
+
+import java.time.LocalDateTime;
+
+/* 리뷰 상세에 필요한 컬럼만 조회 (상품 설명, 회원 비밀번호, refresh token 등은 조회하지 않는다.) */
+public interface ReviewDetail {
+
+    Long getReviewCode();
+
+    String getProductName();
+
+    String getMemberName();
+
+    String getReviewTitle();
+
+    String getReviewContent();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getModifiedAt();
+}
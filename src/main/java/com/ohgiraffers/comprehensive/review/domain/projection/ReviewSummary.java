@@ -0,0 +1,17 @@
+package com.ohgiraffers.comprehensive.review.domain.projection;
+
+import java.time.LocalDateTime;
+
+/* 리뷰 목록에 필요한 컬럼만 조회 (회원 비밀번호, refresh token 등은 조회하지 않는다.) */
+public interface ReviewSummary {
+
+    Long getReviewCode();
+
+    String getProductName();
+
+    String getMemberName();
+
+    String getReviewTitle();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,63 @@
+package com.ohgiraffers.comprehensive.review.domain.repository;
+
+import com.ohgiraffers.comprehensive.common.domain.type.StatusType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/* 리뷰 일괄 상태 변경 (엔티티를 읽지 않는 set 기반 UPDATE)
+ * 대상 리뷰를 reviewCode 순서로 chunkSize 개씩 잠그고 그 범위만 변경한다. (한 트랜잭션의 크기 제한)
+ * Review 의 @Where 조건과 관계없이 지정한 현재 상태(sourceStatus)의 리뷰를 대상으로 한다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ReviewModerationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* reviewCode 가 afterReviewCode 보다 크고 상태가 sourceStatus 인 리뷰 chunkSize 개를 잠그고 조회 : reviewCode -> productCode (오름차순) */
+    public TreeMap<Long, Long> lockChunk(final Long memberCode, final Long productCode, final StatusType sourceStatus,
+                                         final long afterReviewCode, final int chunkSize) {
+
+        final List<Object> params = new ArrayList<>();
+        final StringBuilder sql = new StringBuilder("SELECT review_code, product_code FROM tbl_review WHERE ");
+        if(memberCode != null) {
+            sql.append("member_code = ? AND ");
+            params.add(memberCode);
+        }
+        if(productCode != null) {
+            sql.append("product_code = ? AND ");
+            params.add(productCode);
+        }
+        sql.append("status = ? AND review_code > ? ORDER BY review_code LIMIT ? FOR UPDATE");
+        params.add(sourceStatus.name());
+        params.add(afterReviewCode);
+        params.add(chunkSize);
+
+        final TreeMap<Long, Long> reviews = new TreeMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> { reviews.put(rs.getLong(1), rs.getLong(2)); }, params.toArray());
+        return reviews;
+    }
+
+    /* 잠근 리뷰의 상태를 구문 하나로 변경 */
+    public int updateStatus(final Map<Long, Long> reviews, final StatusType status) {
+
+        final String sql = "UPDATE tbl_review SET status = ?, modified_at = ? WHERE review_code IN (" +
+                reviews.keySet().stream().map(reviewCode -> "?").collect(Collectors.joining(", ")) + ")";
+
+        final List<Object> params = new ArrayList<>();
+        params.add(status.name());
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(reviews.keySet());
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+}
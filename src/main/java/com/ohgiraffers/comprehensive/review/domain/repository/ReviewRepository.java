@@ -1,15 +1,41 @@
 package com.ohgiraffers.comprehensive.review.domain.repository;
 
 import com.ohgiraffers.comprehensive.review.domain.Review;
+import com.ohgiraffers.comprehensive.review.domain.projection.ReviewDetail;
+import com.ohgiraffers.comprehensive.review.domain.projection.ReviewSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    @EntityGraph(attributePaths = {"product", "member"}) // Review의 필드명
-    Page<Review> findByProductProductCode(Pageable pageable, Long productCode);
+    /* 목록에 필요한 컬럼만 조회 (Member 의 비밀번호, refresh token 등은 select 하지 않는다.) */
+    @Query(value = "SELECT r.reviewCode AS reviewCode, p.productName AS productName, m.memberName AS memberName, " +
+            "r.reviewTitle AS reviewTitle, r.createdAt AS createdAt " +
+            "FROM Review r JOIN r.product p JOIN r.member m WHERE p.productCode = :productCode",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.product.productCode = :productCode")
+    Page<ReviewSummary> findByProductProductCode(Pageable pageable, @Param("productCode") Long productCode);
+
+    @Query("SELECT r.reviewCode AS reviewCode, p.productName AS productName, m.memberName AS memberName, " +
+            "r.reviewTitle AS reviewTitle, r.createdAt AS createdAt " +
+            "FROM Review r JOIN r.product p JOIN r.member m " +
+            "WHERE p.productCode = :productCode AND r.reviewCode < :reviewCode")
+    Slice<ReviewSummary> findByProductProductCodeAndReviewCodeLessThan(
+            Pageable pageable, @Param("productCode") Long productCode, @Param("reviewCode") Long reviewCode);
+
+    /* 리뷰 상세 : 응답에 필요한 컬럼만 한 번에 조회 (상품 / 회원 엔티티 전체를 읽지 않는다.) */
+    @Query("SELECT r.reviewCode AS reviewCode, p.productName AS productName, m.memberName AS memberName, " +
+            "r.reviewTitle AS reviewTitle, r.reviewContent AS reviewContent, " +
+            "r.createdAt AS createdAt, r.modifiedAt AS modifiedAt " +
+            "FROM Review r JOIN r.product p JOIN r.member m WHERE r.reviewCode = :reviewCode")
+    Optional<ReviewDetail> findDetailByReviewCode(@Param("reviewCode") Long reviewCode);
 
-    boolean existsByProductProductCodeAndMemberMemberCode(Long productCode, Long memberCode);
+    @Query("SELECT r.modifiedAt FROM Review r WHERE r.reviewCode = :reviewCode")
+    Optional<LocalDateTime> findModifiedAtByReviewCode(@Param("reviewCode") Long reviewCode);
 }
\ No newline at end of file
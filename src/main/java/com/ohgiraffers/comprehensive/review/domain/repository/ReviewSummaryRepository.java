@@ -0,0 +1,66 @@
+package com.ohgiraffers.comprehensive.review.domain.repository;
+
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/* 상품별 리뷰 요약 (tbl_review_summary)
+ * 리뷰 한 건 등록은 요약 행을 증가시키고, 상태 변경(삭제 등)은 해당 상품 리뷰를 다시 집계한다.
+ * 요약 행은 V8__review_summary.sql 에서 기존 리뷰로 채워 두며, 행이 없는 상품은 증가 대신 다시 집계한다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ReviewSummaryRepository {
+
+    private static final String INCREASE =
+            "UPDATE tbl_review_summary SET review_count = review_count + 1, " +
+            "latest_review_at = GREATEST(COALESCE(latest_review_at, ?), ?) WHERE product_code = ?";
+
+    private static final String RECOUNT =
+            "INSERT INTO tbl_review_summary (product_code, review_count, latest_review_at) " +
+            "SELECT ?, COUNT(*), MAX(created_at) FROM tbl_review WHERE product_code = ? AND status = 'USABLE' " +
+            "ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), latest_review_at = VALUES(latest_review_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void increase(final Long productCode, final LocalDateTime reviewedAt) {
+
+        final Timestamp timestamp = Timestamp.valueOf(reviewedAt);
+        final int updated = jdbcTemplate.update(INCREASE, timestamp, timestamp, productCode);
+
+        /* 요약 행이 없으면 이미 있던 리뷰가 1 건으로 덮이지 않도록 방금 저장한 리뷰까지 포함해 다시 집계한다. */
+        if(updated == 0) recount(productCode);
+    }
+
+    /* 상품 리뷰를 다시 집계 (리뷰 삭제 / 숨김 후) */
+    public void recount(final Long productCode) {
+
+        jdbcTemplate.update(RECOUNT, productCode, productCode);
+    }
+
+    /* 여러 상품 요약을 한 번에 조회 : productCode -> 요약, 요약 행이 없는 상품은 포함되지 않는다. */
+    public Map<Long, ReviewSummaryResponse> findAllByProductCodes(final Collection<? extends Long> productCodes) {
+
+        final Map<Long, ReviewSummaryResponse> summaries = new HashMap<>();
+        if(productCodes.isEmpty()) return summaries;
+
+        final String sql = "SELECT product_code, review_count, latest_review_at FROM tbl_review_summary WHERE product_code IN (" +
+                productCodes.stream().map(productCode -> "?").collect(Collectors.joining(", ")) + ")";
+
+        jdbcTemplate.query(sql, rs -> {
+            final Timestamp latestReviewAt = rs.getTimestamp(3);
+            summaries.put(rs.getLong(1), ReviewSummaryResponse.of(
+                    rs.getLong(1), rs.getLong(2), latestReviewAt == null ? null : latestReviewAt.toLocalDateTime()));
+        }, productCodes.toArray());
+
+        return summaries;
+    }
+}
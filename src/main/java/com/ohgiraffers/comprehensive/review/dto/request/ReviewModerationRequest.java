@@ -0,0 +1,37 @@
+package com.ohgiraffers.comprehensive.review.dto.request;
+
+import com.ohgiraffers.comprehensive.common.domain.type.StatusType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import static com.ohgiraffers.comprehensive.common.domain.type.StatusType.HIDDEN;
+import static com.ohgiraffers.comprehensive.common.domain.type.StatusType.USABLE;
+
+/* 리뷰 일괄 상태 변경 대상 : 회원 / 상품 중 하나 이상 (둘 다 지정하면 AND) */
+@RequiredArgsConstructor
+@Getter
+public class ReviewModerationRequest {
+
+    @Min(value = 1)
+    private final Long memberCode;
+    @Min(value = 1)
+    private final Long productCode;
+    @NotNull
+    private final StatusType status; // HIDDEN : 숨김, USABLE : 복구 (DELETED 는 허용하지 않는다.)
+
+    public boolean hasTarget() {
+        return memberCode != null || productCode != null;
+    }
+
+    public boolean hasModerationStatus() {
+        return status == HIDDEN || status == USABLE;
+    }
+
+    /* 변경 대상 리뷰의 현재 상태 : 숨김은 USABLE 리뷰만, 복구는 HIDDEN 리뷰만 (삭제 된 리뷰는 건드리지 않는다.) */
+    public StatusType getSourceStatus() {
+        return status == HIDDEN ? USABLE : HIDDEN;
+    }
+}
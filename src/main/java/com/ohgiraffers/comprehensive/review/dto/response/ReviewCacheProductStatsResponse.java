@@ -0,0 +1,27 @@
+package com.ohgiraffers.comprehensive.review.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/* 상품 하나의 캐시 적중률 (요청이 많은 상품 순으로 보여준다.) */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class ReviewCacheProductStatsResponse {
+
+    private final Long productCode;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+
+    public static ReviewCacheProductStatsResponse of(final Long productCode, final long hitCount, final long missCount) {
+        final long requestCount = hitCount + missCount;
+        return new ReviewCacheProductStatsResponse(
+                productCode, hitCount, missCount, requestCount == 0 ? 1.0 : (double) hitCount / requestCount);
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ohgiraffers.comprehensive.review.dto.response;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class ReviewCacheStatsResponse {
+
+    private final String cacheName;
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;
+    private final List<ReviewCacheProductStatsResponse> hotProducts; // 요청이 많은 상품별 적중률 (상품 단위 캐시만)
+
+    public static ReviewCacheStatsResponse of(final String cacheName, final Cache<?, ?> cache) {
+        final CacheStats stats = cache.stats();
+        return new ReviewCacheStatsResponse(
+                cacheName,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                List.of()
+        );
+    }
+
+    /* 캐시 항목 하나에 여러 페이지를 담는 경우 : 적중 / 실패는 Caffeine 통계 대신 페이지 단위로 센 값을 사용한다. */
+    public static ReviewCacheStatsResponse of(final String cacheName, final Cache<?, ?> cache,
+                                              final long hitCount, final long missCount,
+                                              final List<ReviewCacheProductStatsResponse> hotProducts) {
+        final long requestCount = hitCount + missCount;
+        return new ReviewCacheStatsResponse(
+                cacheName,
+                cache.estimatedSize(),
+                hitCount,
+                missCount,
+                requestCount == 0 ? 1.0 : (double) hitCount / requestCount,
+                cache.stats().evictionCount(),
+                hotProducts
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.ohgiraffers.comprehensive.review.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class ReviewModerationResponse {
+
+    private final long updatedReviews;
+    private final int affectedProducts;
+
+    public static ReviewModerationResponse of(final long updatedReviews, final int affectedProducts) {
+        return new ReviewModerationResponse(updatedReviews, affectedProducts);
+    }
+}
@@ -1,7 +1,7 @@
 package com.ohgiraffers.comprehensive.review.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.ohgiraffers.comprehensive.review.domain.Review;
+import com.ohgiraffers.comprehensive.review.domain.projection.ReviewDetail;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -21,11 +21,11 @@ public class ReviewResponse {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private final LocalDateTime modifiedAt;
 
-    public static ReviewResponse from(Review review) {
+    public static ReviewResponse from(ReviewDetail review) {
         return new ReviewResponse(
                 review.getReviewCode(),
-                review.getProduct().getProductName(),
-                review.getMember().getMemberName(),
+                review.getProductName(),
+                review.getMemberName(),
                 review.getReviewTitle(),
                 review.getReviewContent(),
                 review.getCreatedAt(),
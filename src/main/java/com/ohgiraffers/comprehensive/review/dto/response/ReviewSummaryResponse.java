@@ -0,0 +1,26 @@
+package com.ohgiraffers.comprehensive.review.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class ReviewSummaryResponse {
+
+    private final Long productCode;
+    private final Long reviewCount;
+    private final LocalDateTime latestReviewAt;
+
+    public static ReviewSummaryResponse of(final Long productCode, final Long reviewCount, final LocalDateTime latestReviewAt) {
+        return new ReviewSummaryResponse(productCode, reviewCount, latestReviewAt);
+    }
+
+    /* 요약 행이 없는 상품 (리뷰 없음) */
+    public static ReviewSummaryResponse empty(final Long productCode) {
+        return new ReviewSummaryResponse(productCode, 0L, null);
+    }
+}
@@ -1,7 +1,7 @@
 package com.ohgiraffers.comprehensive.review.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.ohgiraffers.comprehensive.review.domain.Review;
+import com.ohgiraffers.comprehensive.review.domain.projection.ReviewSummary;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -18,11 +18,11 @@ public class ReviewsResponse {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private final LocalDateTime createdAt;
 
-    public static ReviewsResponse from(Review review) {
+    public static ReviewsResponse from(ReviewSummary review) {
         return new ReviewsResponse(
                 review.getReviewCode(),
-                review.getProduct().getProductName(),
-                review.getMember().getMemberName(),
+                review.getProductName(),
+                review.getMemberName(),
                 review.getReviewTitle(),
                 review.getCreatedAt()
         );
@@ -1,21 +1,32 @@
 package com.ohgiraffers.comprehensive.review.presentation;
 
+import com.ohgiraffers.comprehensive.common.cache.VersionStamp;
+import com.ohgiraffers.comprehensive.common.paging.CursorPagination;
+import com.ohgiraffers.comprehensive.common.paging.CursorPagingResponse;
 import com.ohgiraffers.comprehensive.common.paging.Pagenation;
 import com.ohgiraffers.comprehensive.common.paging.PagingButtonInfo;
 import com.ohgiraffers.comprehensive.common.paging.PagingResponse;
 import com.ohgiraffers.comprehensive.jwt.CustomUser;
 import com.ohgiraffers.comprehensive.review.dto.request.ReviewCreateRequest;
+import com.ohgiraffers.comprehensive.review.dto.request.ReviewModerationRequest;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewCacheStatsResponse;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewModerationResponse;
 import com.ohgiraffers.comprehensive.review.dto.response.ReviewResponse;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewSummaryResponse;
 import com.ohgiraffers.comprehensive.review.dto.response.ReviewsResponse;
+import com.ohgiraffers.comprehensive.review.service.ReviewModerationService;
 import com.ohgiraffers.comprehensive.review.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -23,14 +34,23 @@ import java.net.URI;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ReviewModerationService reviewModerationService;
 
     /* 1. 상품별 리뷰 목록 조회 */
     @GetMapping("/reviews/product/{productCode}")
     public ResponseEntity<PagingResponse> getReviews(
             @PathVariable final Long productCode,
-            @RequestParam(defaultValue = "1") final int page
+            @RequestParam(defaultValue = "1") final int page,
+            final WebRequest webRequest
     ) {
 
+        /* 해당 상품의 리뷰가 바뀌지 않았으면 304 Not Modified */
+        final VersionStamp reviewsStamp = reviewService.getReviewsStamp(productCode);
+        if(webRequest.checkNotModified(
+                reviewsStamp.getETag("product-" + productCode + "-reviews-" + page), reviewsStamp.getLastModified())) {
+            return null;
+        }
+
         final Page<ReviewsResponse> reviews = reviewService.getReviews(page, productCode);
         final PagingButtonInfo pagingButtonInfo = Pagenation.getPagingButtonInfo(reviews);
         final PagingResponse pagingResponse = PagingResponse.of(reviews.getContent(), pagingButtonInfo);
@@ -38,15 +58,44 @@ public class ReviewController {
         return ResponseEntity.ok(pagingResponse);
     }
 
+    /* 1-1. 상품별 리뷰 목록 조회 - 커서 기반 */
+    @GetMapping(value = "/reviews/product/{productCode}", params = "after")
+    public ResponseEntity<CursorPagingResponse> getReviewsAfter(
+            @PathVariable final Long productCode,
+            @RequestParam(required = false) final String after
+    ) {
+
+        final Slice<ReviewsResponse> reviews = reviewService.getReviewsAfter(CursorPagination.decode(after), productCode);
+        final String nextCursor = CursorPagination.getNextCursor(reviews, ReviewsResponse::getReviewCode);
+        final CursorPagingResponse cursorPagingResponse = CursorPagingResponse.of(reviews.getContent(), nextCursor);
+
+        return ResponseEntity.ok(cursorPagingResponse);
+    }
+
     /* 2. 리뷰 코드로 리뷰 상세 조회 */
     @GetMapping("/reviews/{reviewCode}")
-    public ResponseEntity<ReviewResponse> getReview(@PathVariable final Long reviewCode) {
+    public ResponseEntity<ReviewResponse> getReview(@PathVariable final Long reviewCode, final WebRequest webRequest) {
+
+        final VersionStamp reviewStamp = reviewService.getReviewStamp(reviewCode);
+        if(webRequest.checkNotModified(reviewStamp.getETag("review-" + reviewCode), reviewStamp.getLastModified())) {
+            return null;
+        }
 
         final ReviewResponse reviewResponse = reviewService.getReview(reviewCode);
 
         return ResponseEntity.ok(reviewResponse);
     }
 
+    /* 2-1. 상품별 리뷰 요약 : 상품 목록 카드용 (리뷰 수, 최근 리뷰 작성 시각), 비회원 조회 가능 */
+    @GetMapping("/products/review-summaries")
+    public ResponseEntity<List<ReviewSummaryResponse>> getReviewSummaries(@RequestParam final List<Long> productCodes) {
+        // ?productCodes=1,2,3 (한 페이지 상품을 한 번에)
+
+        final List<ReviewSummaryResponse> reviewSummaries = reviewService.getReviewSummaries(productCodes);
+
+        return ResponseEntity.ok(reviewSummaries);
+    }
+
     /* 3. 리뷰 작성 */
     @PostMapping("reviews")
     public ResponseEntity<Void> save(
@@ -54,15 +103,28 @@ public class ReviewController {
             @AuthenticationPrincipal CustomUser customUser
             ) { // @RequestBody json 문자열 형태
 
-        /* 해당 상품 구매 여부 확인 */
-        reviewService.validateProductOrder(reviewRequest.getProductCode(), customUser);
-
-        /* 리뷰 미작성 확인 */
-        reviewService.validateReviewCreate(reviewRequest.getProductCode(), customUser);
-
-        /* 리뷰 저장 */
+        /* 구매 여부 확인 + 리뷰 저장 (구매 이력이 없으면 404, 이미 작성한 리뷰가 있으면 409) */
         Long reviewCode = reviewService.save(reviewRequest, customUser);
 
         return ResponseEntity.created(URI.create("/api/v1/reviews/" + reviewCode)).build();
     }
+
+    /* 4. 리뷰 조회 캐시 통계 (관리자) : 리뷰 목록 앞쪽 페이지 / 리뷰 요약 적중률 */
+    @GetMapping("/reviews-management/cache-stats")
+    public ResponseEntity<List<ReviewCacheStatsResponse>> getCacheStats() {
+
+        final List<ReviewCacheStatsResponse> cacheStats = reviewService.getCacheStats();
+
+        return ResponseEntity.ok(cacheStats);
+    }
+
+    /* 5. 리뷰 일괄 숨김 / 복구 (관리자) : 회원 또는 상품 기준 */
+    @PostMapping("/reviews-management/moderation")
+    public ResponseEntity<ReviewModerationResponse> moderate(@RequestBody @Valid final ReviewModerationRequest moderationRequest) {
+        // { "memberCode": 3, "status": "HIDDEN" } -> 3번 회원의 모든 리뷰 숨김, "USABLE" 이면 복구
+
+        final ReviewModerationResponse moderationResponse = reviewModerationService.moderate(moderationRequest);
+
+        return ResponseEntity.ok(moderationResponse);
+    }
 }
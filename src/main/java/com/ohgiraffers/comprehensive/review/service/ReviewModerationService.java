@@ -0,0 +1,89 @@
+package com.ohgiraffers.comprehensive.review.service;
+
+import com.ohgiraffers.comprehensive.common.exception.BadRequestException;
+import com.ohgiraffers.comprehensive.review.domain.event.ReviewChangedEvent;
+import com.ohgiraffers.comprehensive.review.domain.repository.ReviewModerationRepository;
+import com.ohgiraffers.comprehensive.review.domain.repository.ReviewSummaryRepository;
+import com.ohgiraffers.comprehensive.review.dto.request.ReviewModerationRequest;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewModerationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.INVALID_REVIEW_MODERATION;
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.INVALID_REVIEW_MODERATION_STATUS;
+
+/* 리뷰 일괄 상태 변경 (관리자) : 회원 / 상품 기준 숨김(USABLE -> HIDDEN), 복구(HIDDEN -> USABLE)
+ * chunk 마다 별도 트랜잭션이므로 중간에 실패하면 앞쪽 chunk 는 반영 된 채로 남고, 같은 요청을 다시 보내면 나머지만 처리한다.
+ * 영향 받은 상품의 리뷰 요약 재집계와 ReviewChangedEvent 는 chunk 의 트랜잭션 안에서 처리하므로,
+ * 커밋 된 chunk 는 뒤쪽 chunk 가 실패해도 요약과 리뷰 목록 캐시 / 버전이 함께 갱신된다.
+ * */
+@Service
+public class ReviewModerationService {
+
+    private final ReviewModerationRepository reviewModerationRepository;
+    private final ReviewSummaryRepository reviewSummaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ReviewModerationService(ReviewModerationRepository reviewModerationRepository,
+                                   ReviewSummaryRepository reviewSummaryRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${review.moderation.chunk-size}") int chunkSize) {
+        this.reviewModerationRepository = reviewModerationRepository;
+        this.reviewSummaryRepository = reviewSummaryRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public ReviewModerationResponse moderate(final ReviewModerationRequest moderationRequest) {
+
+        if(!moderationRequest.hasTarget()) throw new BadRequestException(INVALID_REVIEW_MODERATION);
+        if(!moderationRequest.hasModerationStatus()) throw new BadRequestException(INVALID_REVIEW_MODERATION_STATUS);
+
+        final SortedSet<Long> productCodes = new TreeSet<>();
+        long updatedReviews = 0;
+        long afterReviewCode = 0;
+
+        while(true) {
+            final long after = afterReviewCode;
+            final TreeMap<Long, Long> chunk = transactionTemplate.execute(status -> {
+                final TreeMap<Long, Long> reviews = reviewModerationRepository.lockChunk(
+                        moderationRequest.getMemberCode(), moderationRequest.getProductCode(),
+                        moderationRequest.getSourceStatus(), after, chunkSize);
+                if(!reviews.isEmpty()) {
+                    reviewModerationRepository.updateStatus(reviews, moderationRequest.getStatus());
+                    refreshSummaries(new TreeSet<>(reviews.values()));
+                }
+                return reviews;
+            });
+
+            if(chunk.isEmpty()) break;
+
+            updatedReviews += chunk.size();
+            productCodes.addAll(chunk.values());
+            afterReviewCode = chunk.lastKey();
+
+            if(chunk.size() < chunkSize) break;
+        }
+
+        return ReviewModerationResponse.of(updatedReviews, productCodes.size());
+    }
+
+    /* chunk 에 포함된 상품의 리뷰 요약 재집계 + 커밋 후 캐시 / 버전 갱신 이벤트 (호출한 chunk 트랜잭션 안에서) */
+    private void refreshSummaries(final SortedSet<Long> productCodes) {
+
+        productCodes.forEach(productCode -> {
+            reviewSummaryRepository.recount(productCode);
+            eventPublisher.publishEvent(ReviewChangedEvent.of(productCode));
+        });
+    }
+}
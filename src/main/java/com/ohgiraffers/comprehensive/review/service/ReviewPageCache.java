@@ -0,0 +1,116 @@
+package com.ohgiraffers.comprehensive.review.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ohgiraffers.comprehensive.review.domain.event.ReviewChangedEvent;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewCacheProductStatsResponse;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewCacheStatsResponse;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/* 상품별 리뷰 목록 앞쪽 페이지 캐시 (상품 상세 화면은 항상 첫 페이지를 보여준다.)
+ * 상품 하나가 항목 하나이고, 항목에는 만들 때의 상품 리뷰 버전과 앞쪽 페이지들이 들어 있다.
+ * 버전이 다른 항목은 새 항목으로 바꾸므로 커밋 전에 읽은 목록이 새 버전으로 보여지는 일은 없다.
+ * 리뷰가 바뀐 상품의 항목은 커밋 후 key 하나로 제거한다. (ReviewChangedEvent)
+ * */
+@Component
+public class ReviewPageCache {
+
+    public static final String REVIEW_PAGES = "reviewPages";
+
+    private final ReviewVersions reviewVersions;
+    private final int cachedPages;
+    private final int hotProducts;
+    private final Cache<Long, ProductReviewPages> pages;
+    /* 상품별 적중 / 실패 수 : 항목이 제거되어도 유지되도록 따로 둔다. */
+    private final Cache<Long, PageStats> productStats;
+    private final PageStats totalStats = new PageStats();
+
+    public ReviewPageCache(ReviewVersions reviewVersions,
+                           @Value("${review.page-cache.pages}") int cachedPages,
+                           @Value("${review.page-cache.max-products}") long maxProducts,
+                           @Value("${review.page-cache.hot-products}") int hotProducts) {
+        this.reviewVersions = reviewVersions;
+        this.cachedPages = cachedPages;
+        this.hotProducts = hotProducts;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxProducts)
+                .recordStats()
+                .build();
+        this.productStats = Caffeine.newBuilder()
+                .maximumSize(maxProducts)
+                .build();
+    }
+
+    /* 앞쪽 cachedPages 페이지만 캐시하고 그 뒤 페이지는 매번 조회한다. */
+    public Page<ReviewsResponse> get(final Long productCode, final int page, final Supplier<Page<ReviewsResponse>> reviews) {
+
+        if(page > cachedPages) return reviews.get();
+
+        final long version = reviewVersions.current(productCode).getVersion();
+        final ProductReviewPages present = pages.getIfPresent(productCode);
+        final ProductReviewPages productPages = present != null && present.version == version ? present
+                : pages.asMap().compute(productCode, (key, cached) ->
+                        cached == null || cached.version != version ? new ProductReviewPages(version, cachedPages) : cached);
+
+        final PageStats stats = productStats.get(productCode, key -> new PageStats());
+        final Page<ReviewsResponse> cached = productPages.pages.get(page - 1);
+        if(cached != null) {
+            stats.hits.increment();
+            totalStats.hits.increment();
+            return cached;
+        }
+
+        stats.misses.increment();
+        totalStats.misses.increment();
+        final Page<ReviewsResponse> loaded = reviews.get();
+        productPages.pages.compareAndSet(page - 1, null, loaded);
+        return loaded;
+    }
+
+    public ReviewCacheStatsResponse getStats() {
+
+        final List<ReviewCacheProductStatsResponse> hot = productStats.asMap().entrySet().stream()
+                .map(entry -> ReviewCacheProductStatsResponse.of(
+                        entry.getKey(), entry.getValue().hits.sum(), entry.getValue().misses.sum()))
+                .sorted(Comparator.comparingLong(ReviewCacheProductStatsResponse::getRequestCount).reversed())
+                .limit(hotProducts)
+                .collect(Collectors.toList());
+
+        return ReviewCacheStatsResponse.of(REVIEW_PAGES, pages, totalStats.hits.sum(), totalStats.misses.sum(), hot);
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(final ReviewChangedEvent event) {
+
+        pages.invalidate(event.getProductCode());
+    }
+
+    /* 상품 하나의 앞쪽 페이지 (index = page - 1) */
+    private static class ProductReviewPages {
+
+        private final long version;
+        private final AtomicReferenceArray<Page<ReviewsResponse>> pages;
+
+        private ProductReviewPages(final long version, final int cachedPages) {
+            this.version = version;
+            this.pages = new AtomicReferenceArray<>(cachedPages);
+        }
+    }
+
+    private static class PageStats {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
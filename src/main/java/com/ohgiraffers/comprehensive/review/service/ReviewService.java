@@ -1,26 +1,43 @@
 package com.ohgiraffers.comprehensive.review.service;
 
+import com.ohgiraffers.comprehensive.common.cache.VersionStamp;
+import com.ohgiraffers.comprehensive.common.exception.BadRequestException;
 import com.ohgiraffers.comprehensive.common.exception.ConflictException;
 import com.ohgiraffers.comprehensive.common.exception.NotFoundException;
 import com.ohgiraffers.comprehensive.jwt.CustomUser;
 import com.ohgiraffers.comprehensive.member.domain.Member;
 import com.ohgiraffers.comprehensive.member.domain.repository.MemberRepository;
 import com.ohgiraffers.comprehensive.order.domain.repository.OrderRepository;
+import com.ohgiraffers.comprehensive.order.service.PurchaseIndex;
 import com.ohgiraffers.comprehensive.product.domain.Product;
 import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
 import com.ohgiraffers.comprehensive.review.domain.Review;
+import com.ohgiraffers.comprehensive.review.domain.event.ReviewChangedEvent;
+import com.ohgiraffers.comprehensive.review.domain.projection.ReviewDetail;
+import com.ohgiraffers.comprehensive.review.domain.projection.ReviewSummary;
 import com.ohgiraffers.comprehensive.review.dto.request.ReviewCreateRequest;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewCacheStatsResponse;
 import com.ohgiraffers.comprehensive.review.dto.response.ReviewResponse;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewSummaryResponse;
 import com.ohgiraffers.comprehensive.review.dto.response.ReviewsResponse;
 import com.ohgiraffers.comprehensive.review.domain.repository.ReviewRepository;
+import com.ohgiraffers.comprehensive.review.domain.repository.ReviewSummaryRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.*;
 
 @Service
@@ -28,10 +45,18 @@ import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.
 @RequiredArgsConstructor
 public class ReviewService {
 
+    private static final int MAX_SUMMARY_PRODUCTS = 100;
+
     private final ReviewRepository reviewRepository;
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final MemberRepository memberRepository;
+    private final ReviewVersions reviewVersions;
+    private final PurchaseIndex purchaseIndex;
+    private final ReviewSummaryRepository reviewSummaryRepository;
+    private final ReviewSummaries reviewSummaries;
+    private final ReviewPageCache reviewPageCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Pageable getPageable(final Integer page) {
         return PageRequest.of(page - 1, 5, Sort.by("reviewCode").descending());
@@ -40,52 +65,78 @@ public class ReviewService {
     @Transactional(readOnly = true) // 순수한 조회 기능일 때 readOnly
     public Page<ReviewsResponse> getReviews(final int page, final Long productCode) {
 
-        final Page<Review> reviews = reviewRepository.findByProductProductCode(getPageable(page), productCode);
+        /* 앞쪽 페이지는 캐시 (조회 + count 쿼리 없이 응답) */
+        return reviewPageCache.get(productCode, page, () -> reviewRepository
+                .findByProductProductCode(getPageable(page), productCode)
+                .map(review -> ReviewsResponse.from(review)));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ReviewsResponse> getReviewsAfter(final Long after, final Long productCode) {
+
+        final Slice<ReviewSummary> reviews = reviewRepository.findByProductProductCodeAndReviewCodeLessThan(
+                PageRequest.of(0, 5, Sort.by("reviewCode").descending()),
+                productCode,
+                after == null ? Long.MAX_VALUE : after
+        );
 
         return reviews.map(review -> ReviewsResponse.from(review));
     }
 
-    @Transactional(readOnly = true)
-    public ReviewResponse getReview(Long reviewCode) {
+    /* 상품별 리뷰 요약 : 목록 한 페이지의 상품을 한 번에 조회 (리뷰 수, 최근 리뷰 작성 시각) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ReviewSummaryResponse> getReviewSummaries(final List<Long> productCodes) {
 
-        final Review review = reviewRepository.findById(reviewCode)
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_REVIEW_CODE));
+        if(productCodes.isEmpty() || productCodes.size() > MAX_SUMMARY_PRODUCTS) {
+            throw new BadRequestException(INVALID_REVIEW_SUMMARY_REQUEST);
+        }
 
-        return ReviewResponse.from(review);
+        return reviewSummaries.getAll(productCodes);
+    }
+
+    /* 리뷰 조회 캐시 통계 (관리자) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ReviewCacheStatsResponse> getCacheStats() {
+
+        return List.of(reviewPageCache.getStats(), reviewSummaries.getStats());
     }
 
+    /* 상품별 리뷰 목록 버전 (조건부 GET) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VersionStamp getReviewsStamp(final Long productCode) {
+
+        return reviewVersions.current(productCode);
+    }
+
+    /* 리뷰 상세 버전 (조건부 GET) */
     @Transactional(readOnly = true)
-    public void validateProductOrder(Long productCode, CustomUser customUser) {
+    public VersionStamp getReviewStamp(Long reviewCode) {
 
-        if(!orderRepository.existsByProductProductCodeAndMemberCode(productCode, customUser.getMemberCode())) {
-            throw new NotFoundException(NOT_FOUND_VALID_ORDER);
-        }
+        final LocalDateTime modifiedAt = reviewRepository.findModifiedAtByReviewCode(reviewCode)
+                .orElseThrow(() -> new NotFoundException(NOT_FOUND_REVIEW_CODE));
+
+        return VersionStamp.from(modifiedAt);
     }
 
     @Transactional(readOnly = true)
-    public void validateReviewCreate(Long productCode, CustomUser customUser) {
+    public ReviewResponse getReview(Long reviewCode) {
 
-        if(reviewRepository.existsByProductProductCodeAndMemberMemberCode(productCode, customUser.getMemberCode())) {
-            throw new ConflictException(ALREADY_EXIST_REVIEW);
-        }
+        final ReviewDetail review = reviewRepository.findDetailByReviewCode(reviewCode)
+                .orElseThrow(() -> new NotFoundException(NOT_FOUND_REVIEW_CODE));
+
+        return ReviewResponse.from(review);
     }
 
+    /* 리뷰 작성 : 구매 확인 + 저장 + 요약 갱신을 한 트랜잭션으로
+     * 상품과 회원은 조회하지 않고 프록시(reference)만 연결한다.
+     * 구매 이력이 있으면 상품 행도 있으므로 (주문 FK) 상품 존재 여부를 따로 확인하지 않는다.
+     * */
     public Long save(ReviewCreateRequest reviewRequest, CustomUser customUser) {
 
-        Product product = productRepository.findById(reviewRequest.getProductCode())
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_PRODUCT_CODE));
-        // reviewRequest에서 얻은 제품코드 getProductCode()를 사용하여
-        // 데이터 베이스에서 Product 엔티티를 찾는다.
-        // 첫줄 - 해당 제품 코드를 가진 Product 엔터티를 DB에서 찾기 위해 productRepository를 사용한다.
-        // findById 메서드는 주어진 ID에 해당하는 엔티티를 찾아 반환하거나, 찾지 못하면
-        // 비어있는 Optional을 반환한다.
-        // .orElseThrow(() -> new NotFound~ 만약 findById가 비어있는 Optinal을 반환한다면,
-        // orElseThrow 메서드를 사용하여 예외를 던진다. 여기서는 NotFoundException을 던지고,
-        // 해당 예외에는 NOT_FOUND_PRODUCT_CODE라는 메세지를 포함한다.
-        // 이것은 주로 특정 제품 코드에 해당하는 제품이 DB에 없을 경우에 예외를 발생시키고,
-        // 해당 예외를 적절히 처리하는 곳에서 처리하도록 하는 용도로 사용된다.
-        Member member = memberRepository.findById(customUser.getMemberCode())
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_MEMBER_CODE));
+        validateProductOrder(reviewRequest.getProductCode(), customUser);
+
+        Product product = productRepository.getReferenceById(reviewRequest.getProductCode());
+        Member member = memberRepository.getReferenceById(customUser.getMemberCode());
 
         final Review newReview = Review.of(
                 product,
@@ -94,9 +145,39 @@ public class ReviewService {
                 reviewRequest.getReviewContent()
         );
 
-        final Review review = reviewRepository.save(newReview);
+        /* 리뷰 중복 작성은 미리 조회하지 않고 유니크 제약 조건(uk_review_product_member)으로 확인한다.
+         * 다른 무결성 오류(FK 등)는 중복 작성이 아니므로 그대로 던진다.
+         * */
+        final Review review;
+        try {
+            review = reviewRepository.save(newReview);
+        } catch (DataIntegrityViolationException e) {
+            if(isDuplicateReview(e)) throw new ConflictException(ALREADY_EXIST_REVIEW);
+            throw e;
+        }
+
+        /* 상품별 리뷰 요약도 같은 트랜잭션에서 증가 (캐시는 커밋 후 ReviewChangedEvent 로 제거) */
+        reviewSummaryRepository.increase(reviewRequest.getProductCode(), review.getCreatedAt());
+
+        eventPublisher.publishEvent(ReviewChangedEvent.of(reviewRequest.getProductCode()));
 
         return review.getReviewCode();
+    }
 
+    private static boolean isDuplicateReview(final DataIntegrityViolationException e) {
+
+        /* MySQL 8 은 제약 조건 이름 앞에 테이블 이름을 붙인다. (tbl_review.uk_review_product_member) */
+        return e.getCause() instanceof ConstraintViolationException
+                && ((ConstraintViolationException) e.getCause()).getConstraintName() != null
+                && ((ConstraintViolationException) e.getCause()).getConstraintName().endsWith(Review.UNIQUE_PRODUCT_MEMBER);
+    }
+
+    /* 구매 확인 : 구매 이력 색인에 없으면 DB 조회 없이 거절, 있으면 (오탐 가능) 주문 테이블에서 확인 */
+    private void validateProductOrder(Long productCode, CustomUser customUser) {
+
+        if(!purchaseIndex.mightHavePurchased(customUser.getMemberCode(), productCode)
+                || !orderRepository.existsByProductProductCodeAndMemberCode(productCode, customUser.getMemberCode())) {
+            throw new NotFoundException(NOT_FOUND_VALID_ORDER);
+        }
     }
 }
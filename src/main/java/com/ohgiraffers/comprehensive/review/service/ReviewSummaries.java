@@ -0,0 +1,64 @@
+package com.ohgiraffers.comprehensive.review.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ohgiraffers.comprehensive.review.domain.event.ReviewChangedEvent;
+import com.ohgiraffers.comprehensive.review.domain.repository.ReviewSummaryRepository;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewCacheStatsResponse;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/* 상품별 리뷰 요약 캐시
+ * 목록 한 페이지의 상품 코드를 한 번에 조회하고, 캐시에 없는 상품만 IN 쿼리 하나로 읽는다.
+ * 리뷰가 바뀐 상품은 커밋 후 제거한다. (ReviewChangedEvent)
+ * */
+@Component
+@RequiredArgsConstructor
+public class ReviewSummaries {
+
+    public static final String REVIEW_SUMMARIES = "reviewSummaries";
+
+    private final ReviewSummaryRepository reviewSummaryRepository;
+    private final Cache<Long, ReviewSummaryResponse> summaries = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .recordStats()
+            .build();
+
+    /* 요청 순서대로 요약 목록 (리뷰가 없는 상품은 0건) */
+    public List<ReviewSummaryResponse> getAll(final Collection<Long> productCodes) {
+
+        final Map<Long, ReviewSummaryResponse> found = summaries.getAll(productCodes, missing -> load(missing));
+        return productCodes.stream().distinct().map(found::get).collect(Collectors.toList());
+    }
+
+    /* 캐시에 없는 상품만 IN 쿼리 하나로 조회 */
+    private Map<Long, ReviewSummaryResponse> load(final Iterable<? extends Long> productCodes) {
+
+        final List<Long> missing = new ArrayList<>();
+        productCodes.forEach(missing::add);
+
+        final Map<Long, ReviewSummaryResponse> loaded = new HashMap<>(reviewSummaryRepository.findAllByProductCodes(missing));
+        missing.forEach(productCode -> loaded.computeIfAbsent(productCode, ReviewSummaryResponse::empty));
+        return loaded;
+    }
+
+    public ReviewCacheStatsResponse getStats() {
+        return ReviewCacheStatsResponse.of(REVIEW_SUMMARIES, summaries);
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(final ReviewChangedEvent event) {
+        summaries.invalidate(event.getProductCode());
+    }
+}
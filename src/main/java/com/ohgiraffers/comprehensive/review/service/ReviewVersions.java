@@ -0,0 +1,28 @@
+package com.ohgiraffers.comprehensive.review.service;
+
+import com.ohgiraffers.comprehensive.common.cache.VersionStamp;
+import com.ohgiraffers.comprehensive.review.domain.event.ReviewChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* 상품별 리뷰 목록 버전 (리뷰 목록 응답의 ETag)
+ * 리뷰가 한 번도 바뀌지 않은 상품은 시작 시점 버전을 공유한다.
+ * */
+@Component
+public class ReviewVersions {
+
+    private final VersionStamp initial = VersionStamp.initial();
+    private final Map<Long, VersionStamp> stamps = new ConcurrentHashMap<>();
+
+    public VersionStamp current(final Long productCode) {
+        return stamps.getOrDefault(productCode, initial);
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(final ReviewChangedEvent event) {
+        stamps.compute(event.getProductCode(), (productCode, stamp) -> (stamp == null ? initial : stamp).next());
+    }
+}
@@ -0,0 +1,4 @@
+-- 리뷰 작성 전 구매 확인 (OrderRepository.existsByProductProductCodeAndMemberCode)
+-- 시작 시 구매 이력 색인 적재 (OrderJdbcRepository.streamPurchases) 도 테이블 대신 이 색인만 읽는다.
+CREATE INDEX idx_order_product_member
+    ON tbl_order (product_code, member_code);
@@ -0,0 +1,18 @@
+-- 상품 목록 필터 / 정렬 인덱스 (Product @Table indexes 와 같은 구성)
+-- 조건(status, category) 뒤에 정렬 컬럼을 두고, 가격 범위와 재고 조건은 index condition pushdown 으로 거른다.
+-- idx_product_status_code / idx_product_category_status_code 는 가격 필터 + 최신순(NEWEST) 조합도 처리한다.
+CREATE INDEX idx_product_status_code
+    ON tbl_product (status, product_code, product_price, product_stock);
+
+CREATE INDEX idx_product_status_price
+    ON tbl_product (status, product_price, product_code, product_stock);
+
+CREATE INDEX idx_product_category_status_code
+    ON tbl_product (category_code, status, product_code, product_price, product_stock);
+
+CREATE INDEX idx_product_category_status_price
+    ON tbl_product (category_code, status, product_price, product_code, product_stock);
+
+-- facet 집계 (covering index)
+CREATE INDEX idx_product_facet
+    ON tbl_product (status, category_code, product_price, product_stock);
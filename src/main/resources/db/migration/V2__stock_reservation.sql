@@ -0,0 +1,10 @@
+-- 재고 장부 예약 주문의 재고 차감 대기 기록
+-- 주문 행과 같은 트랜잭션에서 저장하고, StockReservationWriter 가 모아서 상품 재고 / 판매 집계에 반영한 뒤 삭제한다.
+CREATE TABLE tbl_stock_reservation
+(
+    reservation_code BIGINT      NOT NULL AUTO_INCREMENT,
+    product_code     BIGINT      NOT NULL,
+    amount           BIGINT      NOT NULL,
+    reserved_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (reservation_code)
+) ENGINE = InnoDB;
@@ -0,0 +1,11 @@
+-- 주문 요청 Idempotency-Key (회원별, 주문과 같은 트랜잭션에서 저장)
+-- request_hash : 요청 본문의 SHA-256 (같은 키로 다른 주문을 요청하면 거절)
+CREATE TABLE tbl_idempotency_key
+(
+    idempotency_key VARCHAR(100) NOT NULL,
+    member_code     BIGINT       NOT NULL,
+    request_hash    CHAR(64)     NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (idempotency_key),
+    INDEX idx_idempotency_key_created_at (created_at)
+) ENGINE = InnoDB;
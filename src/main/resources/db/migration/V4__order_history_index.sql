@@ -0,0 +1,3 @@
+-- 회원 주문 내역 (member_code 조건 + order_code 정렬), 목록에 필요한 주문 컬럼까지 포함 (covering index)
+CREATE INDEX idx_order_member_code
+    ON tbl_order (member_code, order_code, product_code, order_amount, order_date);
@@ -0,0 +1,33 @@
+-- 판매 집계 (SalesJdbcRepository) : 주문 저장과 같은 트랜잭션에서 상품별 / 일자별 한 행씩 증가시킨다.
+CREATE TABLE tbl_product_sales
+(
+    product_code  BIGINT NOT NULL,
+    sales_units   BIGINT NOT NULL,
+    sales_revenue BIGINT NOT NULL,
+    PRIMARY KEY (product_code),
+    INDEX idx_product_sales_units (sales_units)
+) ENGINE = InnoDB;
+
+CREATE TABLE tbl_daily_sales
+(
+    daily_sales_code BIGINT NOT NULL AUTO_INCREMENT,
+    sales_date       DATE   NOT NULL,
+    product_code     BIGINT NOT NULL,
+    sales_units      BIGINT NOT NULL,
+    sales_revenue    BIGINT NOT NULL,
+    PRIMARY KEY (daily_sales_code),
+    CONSTRAINT uk_daily_sales_date_product UNIQUE (sales_date, product_code)
+) ENGINE = InnoDB;
+
+-- 기존 주문으로 집계를 채운다. (주문에는 가격이 없으므로 판매액은 현재 상품 가격 기준)
+INSERT INTO tbl_product_sales (product_code, sales_units, sales_revenue)
+SELECT o.product_code, SUM(o.order_amount), SUM(o.order_amount * p.product_price)
+FROM tbl_order o
+         JOIN tbl_product p ON p.product_code = o.product_code
+GROUP BY o.product_code;
+
+INSERT INTO tbl_daily_sales (sales_date, product_code, sales_units, sales_revenue)
+SELECT DATE(o.order_date), o.product_code, SUM(o.order_amount), SUM(o.order_amount * p.product_price)
+FROM tbl_order o
+         JOIN tbl_product p ON p.product_code = o.product_code
+GROUP BY DATE(o.order_date), o.product_code;
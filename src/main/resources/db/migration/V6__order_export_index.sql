@@ -0,0 +1,3 @@
+-- 주문 내보내기 (order_date 범위 + order_date, order_code 순서, InnoDB 보조 인덱스에는 PK 가 포함된다.)
+CREATE INDEX idx_order_date
+    ON tbl_order (order_date);
@@ -0,0 +1,18 @@
+-- 리뷰 중복 작성 방지 (ReviewService.save) : 회원은 상품마다 삭제되지 않은 리뷰를 하나만 가질 수 있다.
+-- 삭제(DELETED) 된 리뷰는 active_member_code 가 NULL 이 되어 유니크 제약에서 빠지므로 다시 작성할 수 있다.
+
+-- 제약을 걸기 전에 이미 쌓인 중복 리뷰는 가장 먼저 작성된 리뷰만 남기고 삭제 처리한다.
+UPDATE tbl_review r
+    JOIN (SELECT product_code, member_code, MIN(review_code) AS first_review_code
+          FROM tbl_review
+          WHERE status <> 'DELETED'
+          GROUP BY product_code, member_code
+          HAVING COUNT(*) > 1) d
+    ON d.product_code = r.product_code AND d.member_code = r.member_code
+SET r.status = 'DELETED'
+WHERE r.status <> 'DELETED'
+  AND r.review_code > d.first_review_code;
+
+ALTER TABLE tbl_review
+    ADD COLUMN active_member_code BIGINT AS (CASE WHEN status = 'DELETED' THEN NULL ELSE member_code END) STORED,
+    ADD CONSTRAINT uk_review_product_member UNIQUE (product_code, active_member_code);
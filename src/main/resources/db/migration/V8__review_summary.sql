@@ -0,0 +1,15 @@
+-- 상품별 리뷰 요약 (ReviewSummaryRepository) : 리뷰 저장 / 상태 변경과 같은 트랜잭션에서 갱신한다.
+CREATE TABLE tbl_review_summary
+(
+    product_code     BIGINT      NOT NULL,
+    review_count     BIGINT      NOT NULL,
+    latest_review_at DATETIME(6) NULL,
+    PRIMARY KEY (product_code)
+) ENGINE = InnoDB;
+
+-- 기존 리뷰로 요약을 채운다. (노출 중인 USABLE 리뷰만 집계)
+INSERT INTO tbl_review_summary (product_code, review_count, latest_review_at)
+SELECT product_code, COUNT(*), MAX(created_at)
+FROM tbl_review
+WHERE status = 'USABLE'
+GROUP BY product_code;
@@ -0,0 +1,7 @@
+-- 리뷰 일괄 숨김 / 복구 (ReviewModerationRepository.lockChunk) : 회원 / 상품 기준으로 review_code 순서대로 잠근다.
+-- 상품 기준 색인은 상품별 리뷰 목록 (review_code 정렬) 에도 사용된다.
+CREATE INDEX idx_review_product_code
+    ON tbl_review (product_code, review_code);
+
+CREATE INDEX idx_review_member_code
+    ON tbl_review (member_code, review_code);
@@ -0,0 +1,131 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import com.ohgiraffers.comprehensive.order.domain.type.OrderExportFormat;
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 주문 내보내기 처리량과 메모리 (MySQL 필요)
+ * 기본 2,000,000건을 만들어 내보내며, 행 수는 -Dbenchmark.export.rows 로 바꿀 수 있다.
+ * ./gradlew benchmark --tests '*OrderExportBenchmarkTest'
+ * */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS) // 데이터는 한 번만 만들고 형식별로 내보낸다.
+class OrderExportBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderExportBenchmarkTest.class);
+    private static final int ROWS = Integer.getInteger("benchmark.export.rows", 2_000_000);
+    private static final int BATCH_SIZE = 10_000;
+    private static final long MEMBER_CODE = 987_654_322L;
+    private static final LocalDate FROM = LocalDate.of(2001, 1, 1);  // 실제 주문과 겹치지 않는 기간
+    private static final LocalDate TO = LocalDate.of(2001, 1, 31);
+    private static final long MAX_HEAP_GROWTH = 64L * 1024 * 1024;
+
+    @Autowired
+    private OrderExportService orderExportService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long productCode;
+
+    @BeforeAll
+    void setUp() {
+        productCode = productRepository.save(
+                Product.of("내보내기 벤치마크 상품", 1000L, "주문 내보내기", null, "test.png", 0L)
+        ).getProductCode();
+
+        /* 한 달 동안 고르게 분포한 주문 */
+        final long secondsInPeriod = (TO.toEpochDay() - FROM.toEpochDay() + 1) * 24 * 60 * 60;
+        final List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for(int i = 0; i < ROWS; i++) {
+            final LocalDateTime orderDate = FROM.atStartOfDay().plusSeconds(i * secondsInPeriod / ROWS);
+            batch.add(new Object[] { productCode, MEMBER_CODE, "010-0000-0000", "export@test.com", "테스트",
+                    "서울시 내보내기 벤치마크 " + i, 1L, Timestamp.valueOf(orderDate) });
+            if(batch.size() == BATCH_SIZE || i == ROWS - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO tbl_order (product_code, member_code, order_phone, order_email, " +
+                        "order_receiver, order_address, order_amount, order_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        while(jdbcTemplate.update("DELETE FROM tbl_order WHERE member_code = ? LIMIT 100000", MEMBER_CODE) > 0) {
+            // 한 번에 지우면 undo log 가 커지므로 나눠서 삭제
+        }
+        jdbcTemplate.update("DELETE FROM tbl_product WHERE product_code = ?", productCode);
+    }
+
+    @ParameterizedTest
+    @EnumSource(OrderExportFormat.class)
+    void exportStreamsWithConstantMemory(final OrderExportFormat format) throws Exception {
+
+        final CountingOutputStream out = new CountingOutputStream();
+        final long heapBefore = usedHeap();
+
+        final long begin = System.nanoTime();
+        orderExportService.export(FROM, TO, format, out);
+        final double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+
+        final long heapGrowth = out.maxUsedHeap - heapBefore;
+        log.info("format={}, rows={}, {} rows/sec, {} MB/s, {} s, max heap growth {} MB",
+                format, out.lines, String.format("%.0f", out.lines / seconds),
+                String.format("%.1f", out.bytes / seconds / 1024 / 1024), String.format("%.2f", seconds),
+                heapGrowth / 1024 / 1024);
+
+        assertThat(out.lines).isEqualTo(format == OrderExportFormat.CSV ? ROWS + 1 : ROWS); // CSV 는 헤더 포함
+        assertThat(heapGrowth).isLessThan(MAX_HEAP_GROWTH);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /* 응답 대신 byte / 줄 수만 세고, 일정 간격으로 사용 중인 heap 의 최댓값을 기록한다. */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long lines;
+        private long maxUsedHeap;
+
+        @Override
+        public void write(final int b) {
+            count(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            for(int i = off; i < off + len; i++) count(b[i]);
+        }
+
+        private void count(final int b) {
+            bytes++;
+            if(b == '\n' && ++lines % 100_000 == 0) maxUsedHeap = Math.max(maxUsedHeap, usedHeap());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import com.ohgiraffers.comprehensive.jwt.CustomUser;
+import com.ohgiraffers.comprehensive.order.domain.Order;
+import com.ohgiraffers.comprehensive.order.domain.PendingOrder;
+import com.ohgiraffers.comprehensive.order.domain.repository.OrderJdbcRepository;
+import com.ohgiraffers.comprehensive.order.dto.reqeust.OrderCreateRequest;
+import com.ohgiraffers.comprehensive.order.dto.response.OrderResponse;
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 회원 한 명의 주문 10,000건 내역 조회 : projection + covering index 와 이전 방식(Order + Product fetch join) 비교 (MySQL 필요)
+ * ./gradlew benchmark --tests '*OrderHistoryBenchmarkTest'
+ * */
+@Tag("benchmark")
+@SpringBootTest
+class OrderHistoryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderHistoryBenchmarkTest.class);
+    private static final int ORDERS = 10_000;
+    private static final int ROUNDS = 200;
+    private static final long MEMBER_CODE = 987_654_321L;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderJdbcRepository orderJdbcRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long productCode;
+    private CustomUser customUser;
+
+    @BeforeEach
+    void setUp() {
+        productCode = productRepository.save(
+                Product.of("주문 내역 벤치마크 상품", 1000L, "주문 내역 조회", null, "test.png", 0L)
+        ).getProductCode();
+
+        final OrderCreateRequest orderRequest = new OrderCreateRequest(
+                productCode, "010-0000-0000", "history@test.com", "테스트", "서울시", 1L);
+        final List<PendingOrder> orders = new ArrayList<>(ORDERS);
+        for(int i = 0; i < ORDERS; i++) orders.add(PendingOrder.of(orderRequest, MEMBER_CODE));
+        transactionTemplate.executeWithoutResult(status -> orderJdbcRepository.batchInsert(orders));
+        jdbcTemplate.execute("ANALYZE TABLE tbl_order");
+
+        customUser = CustomUser.of(MEMBER_CODE,
+                User.withUsername("history-benchmark").password("password").roles("USER").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tbl_order WHERE member_code = ?", MEMBER_CODE);
+        jdbcTemplate.update("DELETE FROM tbl_product WHERE product_code = ?", productCode);
+    }
+
+    @Test
+    void projectionReadsOrderHistoryFromCoveringIndex() {
+
+        /* 회원 조건 + orderCode 정렬이 idx_order_member_code 만으로 처리 되는지 */
+        final Map<String, Object> plan = jdbcTemplate.queryForMap(
+                "EXPLAIN SELECT order_code, product_code, order_amount, order_date FROM tbl_order " +
+                "WHERE member_code = ? ORDER BY order_code DESC LIMIT 5", MEMBER_CODE);
+        log.info("plan key={}, extra={}", plan.get("key"), plan.get("Extra"));
+        assertThat(plan.get("key")).isEqualTo("idx_order_member_code");
+        assertThat(String.valueOf(plan.get("Extra"))).contains("Using index").doesNotContain("filesort");
+
+        for(int page : new int[] { 1, ORDERS / 5 / 2, ORDERS / 5 }) {
+            final double projectionMillis = measure(() -> orderService.getOrders(page, customUser));
+            final double entityMillis = measure(() -> findWithProduct(page));
+            log.info("page={}, projection {} ms, entity + fetch join {} ms",
+                    page, String.format("%.3f", projectionMillis), String.format("%.3f", entityMillis));
+        }
+
+        final Page<OrderResponse> firstPage = orderService.getOrders(1, customUser);
+        assertThat(firstPage.getTotalElements()).isEqualTo(ORDERS);
+        assertThat(firstPage.getContent()).hasSize(5);
+    }
+
+    /* 변경 전 조회 : 주문 전체 컬럼 + 상품 전체 컬럼 fetch join 후 응답으로 변환 */
+    private List<OrderResponse> findWithProduct(final int page) {
+
+        return transactionTemplate.execute(status -> {
+            final List<Order> orders = entityManager.createQuery(
+                            "SELECT o FROM Order o JOIN FETCH o.product WHERE o.memberCode = :memberCode " +
+                            "ORDER BY o.orderCode DESC", Order.class)
+                    .setParameter("memberCode", MEMBER_CODE)
+                    .setFirstResult((page - 1) * 5)
+                    .setMaxResults(5)
+                    .getResultList();
+            entityManager.createQuery("SELECT COUNT(o) FROM Order o WHERE o.memberCode = :memberCode")
+                    .setParameter("memberCode", MEMBER_CODE)
+                    .getSingleResult();
+
+            final List<OrderResponse> responses = new ArrayList<>(orders.size());
+            orders.forEach(order -> responses.add(new OrderResponse(
+                    order.getOrderCode(),
+                    order.getProduct().getProductCode(),
+                    order.getProduct().getProductName(),
+                    order.getProduct().getProductPrice(),
+                    order.getOrderAmount(),
+                    order.getOrderDate())));
+            return responses;
+        });
+    }
+
+    /* 평균 조회 시간 (ms), 앞쪽 일부는 warm-up */
+    private static double measure(final Supplier<?> query) {
+
+        for(int i = 0; i < ROUNDS / 10; i++) query.get();
+
+        final long begin = System.nanoTime();
+        for(int i = 0; i < ROUNDS; i++) query.get();
+        return (System.nanoTime() - begin) / 1_000_000.0 / ROUNDS;
+    }
+}
@@ -0,0 +1,106 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import com.ohgiraffers.comprehensive.common.exception.ConflictException;
+import com.ohgiraffers.comprehensive.jwt.CustomUser;
+import com.ohgiraffers.comprehensive.order.dto.reqeust.OrderCreateRequest;
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 동시 주문 시 재고 초과 판매 여부 (MySQL 필요) */
+@SpringBootTest
+class OrderServiceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderServiceConcurrencyTest.class);
+    private static final long STOCK = 100;
+    private static final int ORDERS = 1000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long productCode;
+
+    @BeforeEach
+    void setUp() {
+        productCode = productRepository.save(
+                Product.of("동시 주문 테스트 상품", 1000L, "재고 차감 테스트", null, "test.png", STOCK)
+        ).getProductCode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tbl_order WHERE product_code = ?", productCode);
+        jdbcTemplate.update("DELETE FROM tbl_product_sales WHERE product_code = ?", productCode);
+        jdbcTemplate.update("DELETE FROM tbl_daily_sales WHERE product_code = ?", productCode);
+        jdbcTemplate.update("DELETE FROM tbl_product WHERE product_code = ?", productCode);
+    }
+
+    @Test
+    void concurrentOrdersNeverOversell() throws Exception {
+
+        final CustomUser customUser = CustomUser.of(1L,
+                User.withUsername("stress-test").password("password").roles("USER").build());
+        final OrderCreateRequest orderRequest = new OrderCreateRequest(
+                productCode, "010-0000-0000", "stress@test.com", "테스트", "서울시", 1L);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger succeeded = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for(int i = 0; i < ORDERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    orderService.save(orderRequest, customUser);
+                    succeeded.incrementAndGet();
+                } catch (ConflictException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        final long begin = System.nanoTime();
+        start.countDown();
+        for(Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        final double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+        executor.shutdown();
+
+        final Long stock = jdbcTemplate.queryForObject(
+                "SELECT product_stock FROM tbl_product WHERE product_code = ?", Long.class, productCode);
+        final Integer orderCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tbl_order WHERE product_code = ?", Integer.class, productCode);
+
+        log.info("orders={}, succeeded={}, rejected={}, {} orders/sec",
+                ORDERS, succeeded.get(), rejected.get(), String.format("%.1f", ORDERS / seconds));
+
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(rejected.get()).isEqualTo(ORDERS - STOCK);
+        assertThat(stock).isZero();
+        assertThat(orderCount).isEqualTo((int) STOCK);
+    }
+}
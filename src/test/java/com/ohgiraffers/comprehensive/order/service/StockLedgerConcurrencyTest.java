@@ -0,0 +1,185 @@
+package com.ohgiraffers.comprehensive.order.service;
+
+import com.ohgiraffers.comprehensive.common.exception.ConflictException;
+import com.ohgiraffers.comprehensive.common.exception.ServiceUnavailableException;
+import com.ohgiraffers.comprehensive.jwt.CustomUser;
+import com.ohgiraffers.comprehensive.order.domain.PendingOrder;
+import com.ohgiraffers.comprehensive.order.domain.type.OrderTicketStatusType;
+import com.ohgiraffers.comprehensive.order.dto.reqeust.OrderCreateRequest;
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 재고 장부 경로 동시 주문 시 재고 초과 판매 여부 (MySQL 필요)
+ * 동기 / 비동기 주문이 DB 차감 경로로 들어오는 중에 장부 등록(manage), 시작 시 복구(recover + reconcile)를 실행한다.
+ * 마지막에 장부를 해제해서 차감 대기 기록을 모두 재고에 반영한 뒤 DB 재고와 주문 수를 확인한다.
+ * */
+@SpringBootTest
+class StockLedgerConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StockLedgerConcurrencyTest.class);
+    private static final long STOCK = 300;
+    private static final long PENDING_BEFORE_RESTART = 30;
+    private static final int ORDERS = 2000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private StockLedgerService stockLedgerService;
+    @Autowired
+    private StockLedger stockLedger;
+    @Autowired
+    private StockReservationWriter stockReservationWriter;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long productCode;
+    private CustomUser customUser;
+    private OrderCreateRequest orderRequest;
+
+    @BeforeEach
+    void setUp() {
+        productCode = productRepository.save(
+                Product.of("재고 장부 테스트 상품", 1000L, "재고 장부 테스트", null, "test.png", STOCK)
+        ).getProductCode();
+        customUser = CustomUser.of(1L,
+                User.withUsername("ledger-stress-test").password("password").roles("USER").build());
+        orderRequest = new OrderCreateRequest(productCode, "010-0000-0000", "ledger@test.com", "테스트", "서울시", 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockLedgerService.release(productCode);
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(stockLedgerService), "managedProductCodes", List.of());
+
+        jdbcTemplate.update("DELETE FROM tbl_stock_reservation WHERE product_code = ?", productCode);
+        jdbcTemplate.update("DELETE FROM tbl_order WHERE product_code = ?", productCode);
+        jdbcTemplate.update("DELETE FROM tbl_product_sales WHERE product_code = ?", productCode);
+        jdbcTemplate.update("DELETE FROM tbl_daily_sales WHERE product_code = ?", productCode);
+        jdbcTemplate.update("DELETE FROM tbl_product WHERE product_code = ?", productCode);
+    }
+
+    @Test
+    void manageDuringLoadNeverOversells() throws Exception {
+
+        final int sold = placeOrdersWhile(() -> stockLedgerService.manage(productCode));
+
+        assertSoldOut(sold, 0);
+    }
+
+    @Test
+    void reconcileDuringLoadAppliesPendingReservations() throws Exception {
+
+        /* 비정상 종료 전에 저장 된 예약 주문 : 주문 행과 차감 대기 기록만 있고 재고에는 아직 반영되지 않았다. */
+        final List<PendingOrder> pending = new ArrayList<>();
+        for(int i = 0; i < PENDING_BEFORE_RESTART; i++) pending.add(PendingOrder.of(orderRequest, customUser.getMemberCode()));
+        transactionTemplate.executeWithoutResult(status -> stockReservationWriter.save(pending));
+
+        /* 재시작 : 요청을 받기 전에 기록을 반영하고, 주문이 들어오는 중에 장부를 다시 만든다. */
+        stockReservationWriter.recover();
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(stockLedgerService), "managedProductCodes", List.of(productCode));
+        final int sold = placeOrdersWhile(stockLedgerService::reconcile);
+
+        assertSoldOut(sold, PENDING_BEFORE_RESTART);
+    }
+
+    /* 동기 / 비동기 주문을 섞어서 보내고, 주문 절반이 시작된 시점에 action 을 실행한다. 성공한 주문 수를 돌려준다. */
+    private int placeOrdersWhile(final Runnable action) throws Exception {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch halfway = new CountDownLatch(ORDERS / 2);
+        final AtomicInteger succeeded = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+        final Queue<String> tickets = new ConcurrentLinkedQueue<>();
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for(int i = 0; i < ORDERS; i++) {
+            final boolean async = i % 2 == 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                halfway.countDown();
+                try {
+                    if(async) tickets.add(orderService.saveAsync(orderRequest, customUser).getTicketId());
+                    else {
+                        orderService.save(orderRequest, customUser);
+                        succeeded.incrementAndGet();
+                    }
+                } catch (ConflictException | ServiceUnavailableException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        halfway.await();
+        final long begin = System.nanoTime();
+        action.run();
+        log.info("ledger managed during load in {} ms", String.format("%.1f", (System.nanoTime() - begin) / 1_000_000.0));
+
+        for(Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        /* 비동기 주문은 대기열 처리가 끝날 때까지 기다린다. */
+        for(String ticketId : tickets) {
+            OrderTicketStatusType status;
+            while((status = orderService.getOrderTicket(ticketId, customUser).getStatus()) == OrderTicketStatusType.QUEUED) {
+                Thread.sleep(10);
+            }
+            if(status == OrderTicketStatusType.ACCEPTED) succeeded.incrementAndGet();
+            else rejected.incrementAndGet();
+        }
+
+        log.info("orders={}, succeeded={}, rejected={}, ledger available={}",
+                ORDERS, succeeded.get(), rejected.get(), stockLedger.getAvailable(productCode));
+
+        assertThat(succeeded.get() + rejected.get()).isEqualTo(ORDERS);
+        return succeeded.get();
+    }
+
+    /* 장부를 해제해서 차감 대기 기록을 반영한 뒤 : 재고는 정확히 0, 주문 수는 재고만큼 */
+    private void assertSoldOut(final int sold, final long soldBeforeRestart) {
+
+        assertThat(stockLedger.isManaged(productCode)).isTrue();
+        stockLedgerService.release(productCode);
+
+        final Long stock = jdbcTemplate.queryForObject(
+                "SELECT product_stock FROM tbl_product WHERE product_code = ?", Long.class, productCode);
+        final Integer orderCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tbl_order WHERE product_code = ?", Integer.class, productCode);
+        final Integer pendingReservations = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tbl_stock_reservation WHERE product_code = ?", Integer.class, productCode);
+
+        assertThat(sold).isEqualTo(STOCK - soldBeforeRestart);
+        assertThat(stock).isZero();
+        assertThat(orderCount).isEqualTo((int) STOCK);
+        assertThat(pendingReservations).isZero();
+    }
+}
@@ -0,0 +1,104 @@
+package com.ohgiraffers.comprehensive.product.service;
+
+import com.ohgiraffers.comprehensive.product.domain.Category;
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
+import com.ohgiraffers.comprehensive.product.dto.response.CategoryResponse;
+import com.ohgiraffers.comprehensive.product.dto.response.ProductImportResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.ohgiraffers.comprehensive.product.domain.type.ProductImportFormat.CSV;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/* 상품 일괄 등록 (JDBC batch) 과 단건 등록 (JPA save, 상품마다 트랜잭션) 처리량 비교 (MySQL 필요)
+ * ./gradlew benchmark --tests '*ProductImportBenchmarkTest'
+ * */
+@Tag("benchmark")
+@SpringBootTest
+class ProductImportBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportBenchmarkTest.class);
+    private static final int ROWS = 10_000;
+    private static final String NAME_PREFIX = "import-benchmark-";
+
+    @Autowired
+    private ProductImportService productImportService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long categoryCode;
+
+    @BeforeEach
+    void setUp() {
+        final List<CategoryResponse> categories = categoryRegistry.getCategories();
+        assumeFalse(categories.isEmpty(), "tbl_category 에 카테고리가 하나 이상 있어야 한다.");
+        categoryCode = categories.get(0).getCategoryCode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tbl_product WHERE product_name LIKE ?", NAME_PREFIX + "%");
+    }
+
+    @Test
+    void batchImportOutperformsSingleInserts() {
+
+        final long singleBegin = System.nanoTime();
+        for(int i = 0; i < ROWS; i++) {
+            final String productName = NAME_PREFIX + "single-" + i;
+            transactionTemplate.executeWithoutResult(status -> productRepository.save(Product.of(
+                    productName, 1000L, "단건 등록", entityManager.getReference(Category.class, categoryCode),
+                    "benchmark.png", 10L)));
+        }
+        final double singleSeconds = seconds(singleBegin);
+
+        final StringBuilder csv = new StringBuilder(
+                "productName,productPrice,productDescription,categoryCode,productStock,productImageUrl\n");
+        for(int i = 0; i < ROWS; i++) {
+            csv.append(NAME_PREFIX).append("batch-").append(i)
+                    .append(",1000,일괄 등록,").append(categoryCode).append(",10,benchmark.png\n");
+        }
+
+        final long batchBegin = System.nanoTime();
+        final ProductImportResponse response = productImportService.importProducts(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), CSV);
+        final double batchSeconds = seconds(batchBegin);
+
+        log.info("rows={}, single insert {} rows/sec ({} s), batch import {} rows/sec ({} s), speedup x{}",
+                ROWS,
+                String.format("%.0f", ROWS / singleSeconds), String.format("%.2f", singleSeconds),
+                String.format("%.0f", ROWS / batchSeconds), String.format("%.2f", batchSeconds),
+                String.format("%.1f", singleSeconds / batchSeconds));
+
+        assertThat(response.getImportedRows()).isEqualTo(ROWS);
+        assertThat(response.getFailedRows()).isZero();
+        assertThat(batchSeconds).isLessThan(singleSeconds);
+    }
+
+    private static double seconds(final long begin) {
+        return (System.nanoTime() - begin) / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,115 @@
+package com.ohgiraffers.comprehensive.review.service;
+
+import com.ohgiraffers.comprehensive.member.domain.Member;
+import com.ohgiraffers.comprehensive.member.domain.repository.MemberRepository;
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
+import com.ohgiraffers.comprehensive.review.domain.Review;
+import com.ohgiraffers.comprehensive.review.domain.repository.ReviewRepository;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewResponse;
+import com.ohgiraffers.comprehensive.review.dto.response.ReviewsResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 리뷰 조회 기능별 SQL 수와 조회 컬럼 (MySQL 필요) */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.ohgiraffers.comprehensive.review.service.SqlStatementCounter")
+class ReviewQueryCountTest {
+
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long productCode;
+    private Long memberCode;
+    private Long reviewCode;
+
+    @BeforeEach
+    void setUp() {
+        final Product product = productRepository.save(
+                Product.of("리뷰 SQL 테스트 상품", 1000L, "상품 설명", null, "test.png", 10L));
+        final Member member = memberRepository.save(
+                Member.of("review-sql-test", "password", "리뷰 작성자", "review@test.com"));
+        productCode = product.getProductCode();
+        memberCode = member.getMemberCode();
+        reviewCode = reviewRepository.save(Review.of(product, member, "리뷰 제목", "리뷰 내용")).getReviewCode();
+
+        SqlStatementCounter.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tbl_review WHERE review_code = ?", reviewCode);
+        jdbcTemplate.update("DELETE FROM tbl_member WHERE member_code = ?", memberCode);
+        jdbcTemplate.update("DELETE FROM tbl_product WHERE product_code = ?", productCode);
+    }
+
+    @Test
+    void reviewDetailIsOneSelectWithoutMemberSecrets() {
+
+        final ReviewResponse review = reviewService.getReview(reviewCode);
+
+        final List<String> statements = SqlStatementCounter.getStatements();
+        assertThat(review.getMemberName()).isEqualTo("리뷰 작성자");
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0))
+                .startsWith("select")
+                .contains("tbl_review", "tbl_product", "tbl_member", "review_content")
+                .doesNotContain("member_password", "refresh_token", "product_description");
+    }
+
+    @Test
+    void reviewStampSelectsOnlyModifiedAt() {
+
+        reviewService.getReviewStamp(reviewCode);
+
+        final List<String> statements = SqlStatementCounter.getStatements();
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0))
+                .contains("modified_at")
+                .doesNotContain("review_content", "tbl_product", "tbl_member");
+    }
+
+    @Test
+    void reviewCursorPageIsOneSelectWithoutMemberSecrets() {
+
+        final Slice<ReviewsResponse> reviews = reviewService.getReviewsAfter(null, productCode);
+
+        final List<String> statements = SqlStatementCounter.getStatements();
+        assertThat(reviews.getContent()).hasSize(1);
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0))
+                .contains("tbl_review", "tbl_product", "tbl_member")
+                .doesNotContain("member_password", "refresh_token", "review_content", "product_description");
+    }
+
+    @Test
+    void firstReviewPageIsServedFromCacheAfterFirstRequest() {
+
+        reviewService.getReviews(1, productCode);
+        final int firstRequest = SqlStatementCounter.getStatements().size();
+        SqlStatementCounter.clear();
+
+        reviewService.getReviews(1, productCode);
+
+        /* 첫 페이지 결과가 페이지 크기보다 작으면 count 쿼리는 생략된다. */
+        assertThat(firstRequest).isEqualTo(1);
+        assertThat(SqlStatementCounter.getStatements()).isEmpty();
+    }
+}
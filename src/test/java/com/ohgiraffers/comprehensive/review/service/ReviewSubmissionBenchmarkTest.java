@@ -0,0 +1,212 @@
+package com.ohgiraffers.comprehensive.review.service;
+
+import com.ohgiraffers.comprehensive.common.exception.NotFoundException;
+import com.ohgiraffers.comprehensive.jwt.CustomUser;
+import com.ohgiraffers.comprehensive.member.domain.Member;
+import com.ohgiraffers.comprehensive.member.domain.repository.MemberRepository;
+import com.ohgiraffers.comprehensive.order.domain.PendingOrder;
+import com.ohgiraffers.comprehensive.order.domain.repository.OrderJdbcRepository;
+import com.ohgiraffers.comprehensive.order.domain.repository.OrderRepository;
+import com.ohgiraffers.comprehensive.order.dto.reqeust.OrderCreateRequest;
+import com.ohgiraffers.comprehensive.order.service.PurchaseIndex;
+import com.ohgiraffers.comprehensive.product.domain.Product;
+import com.ohgiraffers.comprehensive.product.domain.repository.ProductRepository;
+import com.ohgiraffers.comprehensive.review.domain.Review;
+import com.ohgiraffers.comprehensive.review.domain.event.ReviewChangedEvent;
+import com.ohgiraffers.comprehensive.review.domain.repository.ReviewRepository;
+import com.ohgiraffers.comprehensive.review.domain.repository.ReviewSummaryRepository;
+import com.ohgiraffers.comprehensive.review.dto.request.ReviewCreateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import static com.ohgiraffers.comprehensive.common.exception.type.ExceptionCode.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 리뷰 작성 지연 시간 : 한 트랜잭션 + 프록시 참조 방식과 이전 방식(구매 확인 / 저장을 나눈 트랜잭션 + findById) 비교 (MySQL 필요)
+ * 방식마다 상품 (WARMUP + SUBMISSIONS) 개를 구매한 회원이 상품마다 리뷰를 하나씩 작성한다.
+ * 작성 횟수는 -Dbenchmark.review.submissions 로 바꿀 수 있다.
+ * ./gradlew benchmark --tests '*ReviewSubmissionBenchmarkTest'
+ * */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.ohgiraffers.comprehensive.review.service.SqlStatementCounter")
+class ReviewSubmissionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewSubmissionBenchmarkTest.class);
+    private static final int SUBMISSIONS = Integer.getInteger("benchmark.review.submissions", 2_000);
+    private static final int WARMUP = 200;
+
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private ReviewSummaryRepository reviewSummaryRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderJdbcRepository orderJdbcRepository;
+    @Autowired
+    private PurchaseIndex purchaseIndex;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> productCodes = new ArrayList<>();
+    private final List<Long> memberCodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        SqlStatementCounter.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for(Long productCode : productCodes) {
+            jdbcTemplate.update("DELETE FROM tbl_review WHERE product_code = ?", productCode);
+            jdbcTemplate.update("DELETE FROM tbl_review_summary WHERE product_code = ?", productCode);
+            jdbcTemplate.update("DELETE FROM tbl_order WHERE product_code = ?", productCode);
+            jdbcTemplate.update("DELETE FROM tbl_product WHERE product_code = ?", productCode);
+        }
+        for(Long memberCode : memberCodes) {
+            jdbcTemplate.update("DELETE FROM tbl_member WHERE member_code = ?", memberCode);
+        }
+        productCodes.clear();
+        memberCodes.clear();
+    }
+
+    @Test
+    void singleTransactionCommandIsFasterThanSeparateTransactions() {
+
+        final Result before = submit("before", this::saveInSeparateTransactions);
+        final Result after = submit("after", reviewService::save);
+
+        assertThat(after.statements).isLessThan(before.statements);
+        assertThat(after.percentile(50)).isLessThan(before.percentile(50));
+    }
+
+    /* 이전 방식 : 구매 확인 트랜잭션과 저장 트랜잭션을 나누고, 상품 / 회원을 findById 로 읽는다. */
+    private Long saveInSeparateTransactions(final ReviewCreateRequest reviewRequest, final CustomUser customUser) {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if(!purchaseIndex.mightHavePurchased(customUser.getMemberCode(), reviewRequest.getProductCode())
+                    || !orderRepository.existsByProductProductCodeAndMemberCode(
+                            reviewRequest.getProductCode(), customUser.getMemberCode())) {
+                throw new NotFoundException(NOT_FOUND_VALID_ORDER);
+            }
+        });
+
+        return transactionTemplate.execute(status -> {
+            final Product product = productRepository.findById(reviewRequest.getProductCode())
+                    .orElseThrow(() -> new NotFoundException(NOT_FOUND_PRODUCT_CODE));
+            final Member member = memberRepository.findById(customUser.getMemberCode())
+                    .orElseThrow(() -> new NotFoundException(NOT_FOUND_MEMBER_CODE));
+
+            final Review review = reviewRepository.save(
+                    Review.of(product, member, reviewRequest.getReviewTitle(), reviewRequest.getReviewContent()));
+            reviewSummaryRepository.increase(product.getProductCode(), review.getCreatedAt());
+            eventPublisher.publishEvent(ReviewChangedEvent.of(product.getProductCode()));
+
+            return review.getReviewCode();
+        });
+    }
+
+    private Result submit(final String name, final BiFunction<ReviewCreateRequest, CustomUser, Long> save) {
+
+        final CustomUser customUser = purchaser(name, WARMUP + SUBMISSIONS);
+        final List<Long> purchased = productCodes.subList(productCodes.size() - (WARMUP + SUBMISSIONS), productCodes.size());
+
+        final long[] latencies = new long[SUBMISSIONS];
+        int statements = 0;
+        for(int i = 0; i < purchased.size(); i++) {
+            final ReviewCreateRequest reviewRequest = new ReviewCreateRequest(purchased.get(i), "리뷰 제목 " + i, "리뷰 내용");
+            SqlStatementCounter.clear();
+
+            final long begin = System.nanoTime();
+            save.apply(reviewRequest, customUser);
+            final long elapsed = System.nanoTime() - begin;
+
+            if(i < WARMUP) continue;
+            latencies[i - WARMUP] = elapsed;
+            statements = SqlStatementCounter.getStatements().size();
+        }
+
+        Arrays.sort(latencies);
+        final Result result = new Result(latencies, statements);
+        log.info("{} : submissions={}, hibernate statements/submission={}, p50={} ms, p95={} ms, p99={} ms, max={} ms",
+                name, SUBMISSIONS, statements,
+                millis(result.percentile(50)), millis(result.percentile(95)), millis(result.percentile(99)),
+                millis(latencies[latencies.length - 1]));
+        log.info("{} : statements={}", name, SqlStatementCounter.getStatements().stream()
+                .map(sql -> sql.substring(0, Math.min(sql.length(), 60))).collect(Collectors.joining(" | ")));
+
+        return result;
+    }
+
+    /* 상품 count 개를 만들고 모두 구매한 회원 (구매 이력 색인에도 추가) */
+    private CustomUser purchaser(final String name, final int count) {
+
+        final Member member = memberRepository.save(
+                Member.of("review-benchmark-" + name, "password", "리뷰 벤치마크", name + "@test.com"));
+        memberCodes.add(member.getMemberCode());
+
+        final List<Product> products = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            products.add(Product.of("리뷰 벤치마크 상품 " + i, 1000L, "리뷰 작성", null, "test.png", 0L));
+        }
+
+        final List<PendingOrder> orders = new ArrayList<>(count);
+        for(Product product : productRepository.saveAll(products)) {
+            productCodes.add(product.getProductCode());
+            orders.add(PendingOrder.of(new OrderCreateRequest(
+                    product.getProductCode(), "010-0000-0000", "review@test.com", "테스트", "서울시", 1L), member.getMemberCode()));
+            purchaseIndex.add(member.getMemberCode(), product.getProductCode());
+        }
+        transactionTemplate.executeWithoutResult(status -> orderJdbcRepository.batchInsert(orders));
+
+        return CustomUser.of(member.getMemberCode(),
+                User.withUsername(member.getMemberId()).password("password").roles("USER").build());
+    }
+
+    private static String millis(final long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    private static class Result {
+
+        private final long[] sortedLatencies;
+        private final int statements;
+
+        private Result(final long[] sortedLatencies, final int statements) {
+            this.sortedLatencies = sortedLatencies;
+            this.statements = statements;
+        }
+
+        private long percentile(final int percentile) {
+            return sortedLatencies[Math.min(sortedLatencies.length - 1, sortedLatencies.length * percentile / 100)];
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ohgiraffers.comprehensive.review.service;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/* Hibernate 가 실행하는 SQL 을 기록 (hibernate.session_factory.statement_inspector) */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final List<String> statements = new ArrayList<>();
+
+    @Override
+    public String inspect(final String sql) {
+        synchronized (statements) {
+            statements.add(sql.toLowerCase());
+        }
+        return sql;
+    }
+
+    public static List<String> getStatements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    public static void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+}